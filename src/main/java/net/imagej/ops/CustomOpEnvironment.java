@@ -51,6 +51,7 @@ public class CustomOpEnvironment extends AbstractContextual implements
 
 	private final OpEnvironment parent;
 	private final OpIndex index;
+	private ParallelContext parallelContext;
 
 	// -- Constructors --
 
@@ -117,6 +118,22 @@ public class CustomOpEnvironment extends AbstractContextual implements
 		return parent().namespace(nsClass);
 	}
 
+	@Override
+	public ParallelContext getParallelContext() {
+		if (parallelContext != null) return parallelContext;
+		return OpEnvironment.super.getParallelContext();
+	}
+
+	// -- CustomOpEnvironment methods --
+
+	/**
+	 * Sets the execution context of the {@link Parallel} ops run in this
+	 * environment, or null to use the one of the parent environment.
+	 */
+	public void setParallelContext(final ParallelContext parallelContext) {
+		this.parallelContext = parallelContext;
+	}
+
 	// -- Helper classes --
 
 	/** A table mapping available ops from class name to {@link OpInfo}. */
@@ -36,6 +36,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import net.imagej.ops.OpCandidate.StatusCode;
@@ -43,6 +46,7 @@ import net.imagej.ops.OpCandidate.StatusCode;
 import org.scijava.Context;
 import org.scijava.InstantiableException;
 import org.scijava.convert.ConvertService;
+import org.scijava.event.EventHandler;
 import org.scijava.log.LogService;
 import org.scijava.module.Module;
 import org.scijava.module.ModuleInfo;
@@ -50,6 +54,8 @@ import org.scijava.module.ModuleItem;
 import org.scijava.module.ModuleService;
 import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
+import org.scijava.plugin.event.PluginsAddedEvent;
+import org.scijava.plugin.event.PluginsRemovedEvent;
 import org.scijava.service.AbstractService;
 import org.scijava.service.Service;
 import org.scijava.util.ConversionUtils;
@@ -76,6 +82,58 @@ public class DefaultOpMatchingService extends AbstractService implements
 	@Parameter
 	private LogService log;
 
+	/** Maximum number of remembered matches per op environment. */
+	private int matchCacheSize = 1024;
+
+	/** Table of op indices, one per op environment. */
+	private final Map<OpEnvironment, OpInfoIndex> indices = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
+	/** Table of remembered matches, one per op environment. */
+	private final Map<OpEnvironment, OpMatchCache> matchCaches = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
+	private final AtomicLong matchCacheHits = new AtomicLong();
+	private final AtomicLong matchCacheMisses = new AtomicLong();
+
+	// -- DefaultOpMatchingService methods --
+
+	/** Gets the number of matches which were served from the match cache. */
+	public long getMatchCacheHits() {
+		return matchCacheHits.get();
+	}
+
+	/** Gets the number of matches which could not be served from the cache. */
+	public long getMatchCacheMisses() {
+		return matchCacheMisses.get();
+	}
+
+	/** Gets the maximum number of remembered matches per op environment. */
+	public int getMatchCacheSize() {
+		return matchCacheSize;
+	}
+
+	/**
+	 * Sets the maximum number of remembered matches per op environment. A size
+	 * of zero disables the match cache. Previously remembered matches are
+	 * discarded.
+	 */
+	public void setMatchCacheSize(final int matchCacheSize) {
+		if (matchCacheSize < 0) {
+			throw new IllegalArgumentException("Negative match cache size: " +
+				matchCacheSize);
+		}
+		this.matchCacheSize = matchCacheSize;
+		clearMatchCache();
+	}
+
+	/** Discards all remembered matches and resets the hit and miss counters. */
+	public void clearMatchCache() {
+		matchCaches.clear();
+		matchCacheHits.set(0);
+		matchCacheMisses.set(0);
+	}
+
 	// -- OpMatchingService methods --
 
 	@SuppressWarnings("unchecked")
@@ -90,6 +148,14 @@ public class DefaultOpMatchingService extends AbstractService implements
 	public OpCandidate<?> findMatch(final OpEnvironment ops,
 		final List<OpRef<?>> refs)
 	{
+		// try the op which won the last match with the same signature
+		final OpMatchCache.Key key = matchCacheSize > 0 ? OpMatchCache.key(refs)
+			: null;
+		if (key != null) {
+			final OpCandidate<?> cached = cachedMatch(ops, refs, key);
+			if (cached != null) return cached;
+		}
+
 		// find candidates with matching name & type
 		final List<OpCandidate<?>> candidates = findCandidates(ops, refs);
 		assertCandidates(candidates, refs.get(0));
@@ -97,7 +163,11 @@ public class DefaultOpMatchingService extends AbstractService implements
 		// narrow down candidates to the exact matches
 		final List<OpCandidate<?>> matches = filterMatches(candidates);
 
-		return singleMatch(candidates, matches);
+		final OpCandidate<?> match = singleMatch(candidates, matches);
+		if (key != null && typeDecided(candidates)) {
+			matchCache(ops).put(key, refs.indexOf(match.getRef()), match.opInfo());
+		}
+		return match;
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -113,7 +183,7 @@ public class DefaultOpMatchingService extends AbstractService implements
 		final List<OpRef<?>> refs)
 	{
 		final ArrayList<OpCandidate<?>> candidates = new ArrayList<>();
-		for (final OpInfo info : ops.infos()) {
+		for (final OpInfo info : index(ops).lookup(refs)) {
 			for (final OpRef<?> ref : refs) {
 				if (isCandidate(info, ref)) {
 					candidates.add(new OpCandidate<>(ops, ref, info));
@@ -171,11 +241,9 @@ public class DefaultOpMatchingService extends AbstractService implements
 
 	@Override
 	public <OP extends Op> Object[] padArgs(final OpCandidate<OP> candidate) {
-		int inputCount = 0, requiredCount = 0;
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
-			inputCount++;
-			if (item.isRequired()) requiredCount++;
-		}
+		final OpInputs inputs = candidate.opInfo().inputs();
+		final int inputCount = inputs.count();
+		final int requiredCount = inputs.requiredCount();
 		final Object[] args = candidate.getRef().getArgs();
 		if (args.length == inputCount) {
 			// correct number of arguments
@@ -196,23 +264,109 @@ public class DefaultOpMatchingService extends AbstractService implements
 
 		// pad optional parameters with null (from right to left)
 		final int argsToPad = inputCount - args.length;
-		final int optionalCount = inputCount - requiredCount;
+		final int optionalCount = inputs.optionalCount();
 		final int optionalsToFill = optionalCount - argsToPad;
 		final Object[] paddedArgs = new Object[inputCount];
-		int argIndex = 0, paddedIndex = 0, optionalIndex = 0;
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
-			if (!item.isRequired() && optionalIndex++ >= optionalsToFill) {
+		int argIndex = 0, optionalIndex = 0;
+		for (int i = 0; i < inputCount; i++) {
+			if (!inputs.isRequired(i) && optionalIndex++ >= optionalsToFill) {
 				// skip this optional parameter (pad with null)
-				paddedIndex++;
 				continue;
 			}
-			paddedArgs[paddedIndex++] = args[argIndex++];
+			paddedArgs[i] = args[argIndex++];
 		}
 		return paddedArgs;
 	}
 
+	// -- Event handlers --
+
+	@EventHandler
+	protected void onEvent(final PluginsAddedEvent evt) {
+		indices.clear();
+		matchCaches.clear();
+	}
+
+	@EventHandler
+	protected void onEvent(final PluginsRemovedEvent evt) {
+		indices.clear();
+		matchCaches.clear();
+	}
+
 	// -- Helper methods --
 
+	/**
+	 * Gets the {@link OpInfoIndex} of the given op environment, building it if
+	 * needed. The indices are discarded whenever the available plugins change.
+	 * <p>
+	 * Helper method of {@link #findCandidates}.
+	 * </p>
+	 */
+	private OpInfoIndex index(final OpEnvironment ops) {
+		OpInfoIndex index = indices.get(ops);
+		if (index == null) {
+			index = new OpInfoIndex(ops.infos());
+			indices.put(ops, index);
+		}
+		return index;
+	}
+
+	/** Gets the {@link OpMatchCache} of the given op environment. */
+	private OpMatchCache matchCache(final OpEnvironment ops) {
+		return matchCaches.computeIfAbsent(ops, env -> new OpMatchCache(
+			matchCacheSize));
+	}
+
+	/**
+	 * Gets the remembered match for the given request signature, if any, with
+	 * its module created and initialized. Returns null if nothing is remembered,
+	 * or if the remembered op does not conform to the actual arguments.
+	 * <p>
+	 * Helper method of {@link #findMatch(OpEnvironment, List)}.
+	 * </p>
+	 */
+	private OpCandidate<?> cachedMatch(final OpEnvironment ops,
+		final List<OpRef<?>> refs, final OpMatchCache.Key key)
+	{
+		final OpMatchCache.Match cached = matchCache(ops).get(key);
+		if (cached == null) {
+			matchCacheMisses.incrementAndGet();
+			return null;
+		}
+		final OpCandidate<?> candidate = new OpCandidate<>(ops, refs.get(cached
+			.refIndex()), cached.info());
+		final Object[] args = padArgs(candidate);
+		if (args == null) {
+			matchCacheMisses.incrementAndGet();
+			return null;
+		}
+		candidate.setArgs(args);
+		if (!moduleConforms(candidate)) {
+			// NB: The full matching will find another op for these arguments.
+			matchCacheMisses.incrementAndGet();
+			return null;
+		}
+		matchCacheHits.incrementAndGet();
+		return initialize(candidate);
+	}
+
+	/**
+	 * Determines whether the outcome of a match depended on argument types only.
+	 * If some candidate was rejected by its {@link Contingent#conforms()} check,
+	 * other argument values of the same types could yield a different winner, so
+	 * the match must not be remembered.
+	 * <p>
+	 * Helper method of {@link #findMatch(OpEnvironment, List)}.
+	 * </p>
+	 */
+	private boolean typeDecided(final List<OpCandidate<?>> candidates) {
+		for (final OpCandidate<?> candidate : candidates) {
+			if (candidate.getStatusCode() == StatusCode.DOES_NOT_CONFORM) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/** Helper method of {@link #findCandidates}. */
 	private <OP extends Op> boolean isCandidate(final OpInfo info,
 		final OpRef<OP> ref)
@@ -312,10 +466,12 @@ public class DefaultOpMatchingService extends AbstractService implements
 	 * </p>
 	 */
 	private boolean missArgs(final OpCandidate<?> candidate) {
-		int i = 0;
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
-			if (candidate.getArgs()[i++] == null && item.isRequired()) {
-				candidate.setStatus(StatusCode.REQUIRED_ARG_IS_NULL, null, item);
+		final OpInputs inputs = candidate.opInfo().inputs();
+		final Object[] args = candidate.getArgs();
+		for (int i = 0; i < inputs.count(); i++) {
+			if (args[i] == null && inputs.isRequired(i)) {
+				candidate.setStatus(StatusCode.REQUIRED_ARG_IS_NULL, null, inputs
+					.item(i));
 				return true;
 			}
 		}
@@ -330,15 +486,13 @@ public class DefaultOpMatchingService extends AbstractService implements
 	 * </p>
 	 */
 	private boolean typesPerfectMatch(final OpCandidate<?> candidate) {
-		int i = 0;
+		final OpInputs inputs = candidate.opInfo().inputs();
 		final Object[] args = candidate.getArgs();
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
+		for (int i = 0; i < inputs.count(); i++) {
 			if (args[i] != null) {
-				final Class<?> typeClass = OpMatchingUtil.getClass(item.getType());
 				final Class<?> argClass = OpMatchingUtil.getClass(args[i]);
-				if (!typeClass.equals(argClass)) return false;
+				if (!inputs.type(i).equals(argClass)) return false;
 			}
-			i++;
 		}
 		return true;
 	}
@@ -388,17 +542,16 @@ public class DefaultOpMatchingService extends AbstractService implements
 	 * </p>
 	 */
 	private <OP extends Op> int findCastLevels(final OpCandidate<OP> candidate) {
-		int level = 0, i = 0;
+		final OpInputs inputs = candidate.opInfo().inputs();
 		final Object[] args = candidate.getArgs();
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
-			final Class<?> type = item.getType();
+		int level = 0;
+		for (int i = 0; i < inputs.count(); i++) {
 			if (args[i] != null) {
-				final int currLevel = OpMatchingUtil.findCastLevels(type, OpMatchingUtil
-					.getClass(args[i]));
+				final int currLevel = OpMatchingUtil.findCastLevels(inputs.type(i),
+					OpMatchingUtil.getClass(args[i]));
 				if (currLevel < 0) return -1;
 				level += currLevel;
 			}
-			i++;
 		}
 		return level;
 	}
@@ -424,24 +577,35 @@ public class DefaultOpMatchingService extends AbstractService implements
 	{
 		if (matches.size() == 1) {
 			// a single match: initialize and return it
-			final Module m = matches.get(0).getModule();
-			if (log.isDebug()) {
-				log.debug("Selected '" + matches.get(0).getRef().getLabel() + "' op: " +
-					m.getDelegateObject().getClass().getName());
-			}
-
-			// initialize the op, if appropriate
-			if (m.getDelegateObject() instanceof Initializable) {
-				((Initializable) m.getDelegateObject()).initialize();
-			}
-
-			return matches.get(0);
+			return initialize(matches.get(0));
 		}
 
 		final String analysis = OpUtils.matchInfo(candidates, matches);
 		throw new IllegalArgumentException(analysis);
 	}
 
+	/**
+	 * Executes the initializer of the given matching candidate's op, if
+	 * applicable.
+	 * <p>
+	 * Helper method of {@link #singleMatch} and {@link #cachedMatch}.
+	 * </p>
+	 */
+	private OpCandidate<?> initialize(final OpCandidate<?> match) {
+		final Op op = match.getOp();
+		if (log.isDebug()) {
+			log.debug("Selected '" + match.getRef().getLabel() + "' op: " + op
+				.getClass().getName());
+		}
+
+		// initialize the op, if appropriate
+		if (op instanceof Initializable) {
+			((Initializable) op).initialize();
+		}
+
+		return match;
+	}
+
 	/**
 	 * Verifies that the given candidate's module is valid.
 	 * <p>
@@ -489,12 +653,10 @@ public class DefaultOpMatchingService extends AbstractService implements
 	private <OP extends Op> boolean moduleConforms(
 		final OpCandidate<OP> candidate)
 	{
-		// create module and assign the inputs
-		final Module module = createModule(candidate, candidate.getArgs());
-		candidate.setModule(module);
+		// create the op and assign the inputs
+		final Op op = instantiate(candidate, candidate.getArgs());
 
 		// make sure the op itself is happy with these arguments
-		final Object op = module.getDelegateObject();
 		if (op instanceof Contingent) {
 			final Contingent c = (Contingent) op;
 			if (!c.conforms()) {
@@ -544,10 +706,9 @@ public class DefaultOpMatchingService extends AbstractService implements
 	private <OP extends Op> int typesMatch(final OpCandidate<OP> candidate,
 		final Object[] args)
 	{
-		int i = 0;
-		for (final ModuleItem<?> item : candidate.cInfo().inputs()) {
-			if (!canAssign(candidate, args[i], item)) return i;
-			i++;
+		final OpInputs inputs = candidate.opInfo().inputs();
+		for (int i = 0; i < inputs.count(); i++) {
+			if (!canAssign(candidate, args[i], inputs.item(i))) return i;
 		}
 		return -1;
 	}
@@ -556,16 +717,55 @@ public class DefaultOpMatchingService extends AbstractService implements
 	private String typeClashMessage(final OpCandidate<?> candidate,
 		final Object[] args, final int index)
 	{
-		int i = 0;
-		for (final ModuleItem<?> item : candidate.opInfo().cInfo().inputs()) {
-			if (i++ == index) {
-				final Object arg = args[index];
-				final String argType = arg == null ? "null" : arg.getClass().getName();
-				final Type inputType = item.getGenericType();
-				return index + ": cannot coerce " + argType + " -> " + inputType;
+		final OpInputs inputs = candidate.opInfo().inputs();
+		if (index < 0 || index >= inputs.count()) {
+			throw new IllegalArgumentException("Invalid index: " + index);
+		}
+		final Object arg = args[index];
+		final String argType = arg == null ? "null" : arg.getClass().getName();
+		final Type inputType = inputs.item(index).getGenericType();
+		return index + ": cannot coerce " + argType + " -> " + inputType;
+	}
+
+	/**
+	 * Creates the candidate's op and assigns its inputs, storing it into the
+	 * candidate. When the op has cached {@link OpAccessors}, no {@link Module} is
+	 * created; the candidate will wrap the op into one only if asked to.
+	 * <p>
+	 * Helper method of {@link #moduleConforms}.
+	 * </p>
+	 */
+	private Op instantiate(final OpCandidate<?> candidate, final Object... args) {
+		final OpAccessors accessors = candidate.opInfo().accessors();
+		if (accessors == null) {
+			final Module module = createModule(candidate, args);
+			candidate.setModule(module);
+			return (Op) module.getDelegateObject();
+		}
+
+		// create the op
+		final Op op = accessors.newInstance();
+
+		// inject the op execution environment
+		op.setEnvironment(candidate.ops());
+
+		// inject the SciJava application context
+		context.inject(op);
+
+		// populate the inputs
+		final OpInputs inputs = candidate.opInfo().inputs();
+		for (int i = 0; i < inputs.count(); i++) {
+			if (args[i] == null) continue;
+			final ModuleItem<?> item = inputs.item(i);
+			final Object value = inputs.type(i).isInstance(args[i]) && item
+				.getGenericType() instanceof Class ? args[i] : convert(args[i], item
+					.getGenericType());
+			if (value != null || !inputs.type(i).isPrimitive()) {
+				accessors.setInput(op, i, value);
 			}
 		}
-		throw new IllegalArgumentException("Invalid index: " + index);
+		candidate.setOp(op);
+		return op;
 	}
 
 	/** Helper method of {@link #match(OpCandidate, Object[])}. */
@@ -585,7 +785,11 @@ public class DefaultOpMatchingService extends AbstractService implements
 		context.inject(op);
 
 		// populate the inputs and return the module
-		return assignInputs(module, args);
+		final OpInputs inputs = candidate.opInfo().inputs();
+		for (int i = 0; i < inputs.count(); i++) {
+			assign(module, args[i], inputs.item(i));
+		}
+		return module;
 	}
 
 	/** Helper method of {@link #match(OpCandidate, Object[])}. */
@@ -0,0 +1,166 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import net.imagej.ops.special.SpecialOp;
+
+import org.scijava.InstantiableException;
+import org.scijava.command.CommandModuleItem;
+import org.scijava.module.ModuleItem;
+
+/**
+ * Cached {@link MethodHandle}s to instantiate an op and access its input
+ * parameters directly, without wrapping the op in a
+ * {@link org.scijava.module.Module}.
+ * <p>
+ * Only {@link SpecialOp}s are eligible: they are looked up once and then
+ * called repeatedly through their typed interfaces, so the module wrapper is
+ * pure overhead for them. Accessors are only available when the op class has
+ * a no-argument constructor and all of its inputs are non-final fields.
+ * </p>
+ *
+ * @see OpInfo#accessors()
+ */
+final class OpAccessors {
+
+	private static final MethodType CONSTRUCTOR_TYPE = //
+		MethodType.methodType(Object.class);
+	private static final MethodType SETTER_TYPE = //
+		MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType GETTER_TYPE = //
+		MethodType.methodType(Object.class, Object.class);
+
+	private final MethodHandle constructor;
+	private final MethodHandle[] setters;
+	private final MethodHandle[] getters;
+
+	private OpAccessors(final MethodHandle constructor,
+		final MethodHandle[] setters, final MethodHandle[] getters)
+	{
+		this.constructor = constructor;
+		this.setters = setters;
+		this.getters = getters;
+	}
+
+	/**
+	 * Creates accessors for the given op, or returns null if the op is not
+	 * eligible.
+	 */
+	public static OpAccessors create(final OpInfo info) {
+		final Class<?> opClass;
+		try {
+			opClass = info.cInfo().loadClass();
+		}
+		catch (final InstantiableException exc) {
+			return null;
+		}
+		if (!SpecialOp.class.isAssignableFrom(opClass)) return null;
+		if (Modifier.isAbstract(opClass.getModifiers())) return null;
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			final Constructor<?> ctor = opClass.getDeclaredConstructor();
+			ctor.setAccessible(true);
+			final MethodHandle constructor = lookup.unreflectConstructor(ctor)
+				.asType(CONSTRUCTOR_TYPE);
+
+			final OpInputs inputs = info.inputs();
+			final MethodHandle[] setters = new MethodHandle[inputs.count()];
+			final MethodHandle[] getters = new MethodHandle[inputs.count()];
+			for (int i = 0; i < inputs.count(); i++) {
+				final ModuleItem<?> item = inputs.item(i);
+				if (!(item instanceof CommandModuleItem)) return null;
+				final Field field = ((CommandModuleItem<?>) item).getField();
+				if (Modifier.isFinal(field.getModifiers())) return null;
+				field.setAccessible(true);
+				setters[i] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+				getters[i] = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			}
+			return new OpAccessors(constructor, setters, getters);
+		}
+		catch (final NoSuchMethodException | IllegalAccessException
+				| SecurityException exc)
+		{
+			return null;
+		}
+	}
+
+	// -- OpAccessors methods --
+
+	/** Creates a new instance of the op, with default input values. */
+	public Op newInstance() {
+		try {
+			final Object op = constructor.invokeExact();
+			return (Op) op;
+		}
+		catch (final RuntimeException | Error exc) {
+			throw exc;
+		}
+		catch (final Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	/** Sets the value of the op's input at the given position. */
+	public void setInput(final Op op, final int index, final Object value) {
+		try {
+			setters[index].invokeExact((Object) op, value);
+		}
+		catch (final RuntimeException | Error exc) {
+			throw exc;
+		}
+		catch (final Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	/** Gets the value of the op's input at the given position. */
+	public Object getInput(final Op op, final int index) {
+		try {
+			final Object value = getters[index].invokeExact((Object) op);
+			return value;
+		}
+		catch (final RuntimeException | Error exc) {
+			throw exc;
+		}
+		catch (final Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+}
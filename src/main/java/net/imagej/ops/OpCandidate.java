@@ -66,6 +66,7 @@ public class OpCandidate<OP extends Op> {
 	private final OpInfo info;
 
 	private Module module;
+	private Op op;
 	private StatusCode code;
 	private String message;
 	private ModuleItem<?> item;
@@ -106,13 +107,41 @@ public class OpCandidate<OP extends Op> {
 	/** Sets the module instance associated with the attempted match. */
 	public void setModule(final Module module) {
 		this.module = module;
+		this.op = null;
 	}
 
-	/** Gets the module instance associated with the attempted match. */
+	/**
+	 * Gets the module instance associated with the attempted match.
+	 * <p>
+	 * If the op was instantiated without a module (see {@link #setOp}), a
+	 * module wrapping it is created on demand.
+	 * </p>
+	 */
 	public Module getModule() {
+		if (module == null && op != null) {
+			module = cInfo().createModule(op);
+			for (final ModuleItem<?> input : cInfo().inputs()) {
+				module.setResolved(input.getName(), true);
+			}
+		}
 		return module;
 	}
 
+	/**
+	 * Sets the op instance associated with the attempted match, with its inputs
+	 * already populated, but without a {@link Module} wrapping it.
+	 */
+	public void setOp(final Op op) {
+		this.op = op;
+		this.module = null;
+	}
+
+	/** Gets the op instance associated with the attempted match. */
+	public Op getOp() {
+		if (op != null) return op;
+		return module == null ? null : (Op) module.getDelegateObject();
+	}
+
 	/** Sets the status of the matching attempt. */
 	public void setStatus(final StatusCode code) {
 		setStatus(code, null, null);
@@ -72,6 +72,7 @@ import net.imglib2.RandomAccessible;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.neighborhood.Shape;
 import net.imglib2.type.Type;
+import net.imglib2.type.numeric.RealType;
 
 import org.scijava.Contextual;
 import org.scijava.module.Module;
@@ -184,7 +185,7 @@ public interface OpEnvironment extends Contextual {
 	 */
 	@OpMethod(op = net.imagej.ops.lookup.LookupByName.class)
 	default Op op(final String name, final Object... args) {
-		return OpUtils.unwrap(module(name, args), Op.class, null);
+		return matcher().findMatch(this, OpRef.create(name, args)).getOp();
 	}
 
 	/**
@@ -200,7 +201,8 @@ public interface OpEnvironment extends Contextual {
 	 */
 	@OpMethod(op = net.imagej.ops.lookup.LookupByType.class)
 	default <OP extends Op> OP op(final Class<OP> type, final Object... args) {
-		return OpUtils.unwrap(module(type, args), type, null);
+		return type.cast(matcher().findMatch(this, OpRef.create(type, args))
+			.getOp());
 	}
 
 	/**
@@ -237,7 +239,8 @@ public interface OpEnvironment extends Contextual {
 	 */
 	default Op op(final List<OpRef<?>> refs) {
 		final OpCandidate<?> match = matcher().findMatch(this, refs);
-		return OpUtils.unwrap(match.getModule(), match.getRef());
+		// NB: Avoid wrapping the op into a module, which is not needed here.
+		return match.getOp();
 	}
 
 	/**
@@ -319,6 +322,18 @@ public interface OpEnvironment extends Contextual {
 		return null;
 	}
 
+	/**
+	 * Gets the execution context of the {@link Parallel} ops run in this
+	 * environment; by default, the one of the parent context.
+	 *
+	 * @see ParallelContext#current(OpEnvironment)
+	 */
+	default ParallelContext getParallelContext() {
+		final OpEnvironment parent = parent();
+		return parent == null ? ParallelContext.DEFAULT : parent
+			.getParallelContext();
+	}
+
 	/** Gets the namespace of the given class. */
 	<NS extends Namespace> NS namespace(final Class<NS> nsClass);
 
@@ -333,7 +348,8 @@ public interface OpEnvironment extends Contextual {
 	}
 
 	/** Executes the "eval" operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.eval.DefaultEval.class)
+	@OpMethod(ops = { net.imagej.ops.eval.DefaultEval.class,
+		net.imagej.ops.eval.CompiledEval.class })
 	default Object eval(final String expression, final Map<String, Object> vars) {
 		final Object result = run(net.imagej.ops.Ops.Eval.class, expression,
 			vars);
@@ -519,7 +535,9 @@ public interface OpEnvironment extends Contextual {
 
 	/** Executes the "map" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.map.MapUnaryComputers.IIToIIParallel.class,
-		net.imagej.ops.map.MapUnaryComputers.IIToII.class })
+		net.imagej.ops.map.MapUnaryComputers.IIToII.class,
+		net.imagej.ops.map.MapNativeImgs.NativeImgToNativeImgParallel.class,
+		net.imagej.ops.map.MapNativeImgs.NativeImgToNativeImg.class })
 	default <EI, EO> IterableInterval<EO> map(
 		final IterableInterval<EO> out, final IterableInterval<EI> in,
 		final UnaryComputerOp<EI, EO> op)
@@ -530,6 +548,34 @@ public interface OpEnvironment extends Contextual {
 		return result;
 	}
 
+	/** Executes the "map" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.map.MapFused.class)
+	default <EI extends RealType<EI>, EO extends RealType<EO>>
+		IterableInterval<EO> map(final IterableInterval<EO> out,
+			final IterableInterval<EI> in,
+			final List<? extends UnaryComputerOp<?, ?>> ops)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<EO> result =
+			(IterableInterval<EO>) run(net.imagej.ops.Ops.Map.class, out, in, ops);
+		return result;
+	}
+
+	/** Executes the "map" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.map.MapFused.class)
+	default <EI extends RealType<EI>, EO extends RealType<EO>>
+		IterableInterval<EO> map(final IterableInterval<EO> out,
+			final IterableInterval<EI> in,
+			final List<? extends UnaryComputerOp<?, ?>> ops,
+			final List<? extends RealType<?>> types)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<EO> result =
+			(IterableInterval<EO>) run(net.imagej.ops.Ops.Map.class, out, in, ops,
+				types);
+		return result;
+	}
+
 	/** Executes the "map" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.map.MapUnaryComputers.IIToRAIParallel.class,
 		net.imagej.ops.map.MapUnaryComputers.IIToRAI.class })
@@ -558,7 +604,9 @@ public interface OpEnvironment extends Contextual {
 
 	/** Executes the "map" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.map.MapBinaryComputers.IIAndIIToIIParallel.class,
-		net.imagej.ops.map.MapBinaryComputers.IIAndIIToII.class })
+		net.imagej.ops.map.MapBinaryComputers.IIAndIIToII.class,
+		net.imagej.ops.map.MapNativeImgs.NativeImgAndNativeImgToNativeImgParallel.class,
+		net.imagej.ops.map.MapNativeImgs.NativeImgAndNativeImgToNativeImg.class })
 	default <EI1, EI2, EO> IterableInterval<EO> map(
 		final IterableInterval<EO> out, final IterableInterval<EI1> in1,
 		final IterableInterval<EI2> in2, final BinaryComputerOp<EI1, EI2, EO> op)
@@ -33,6 +33,7 @@ package net.imagej.ops;
 import java.lang.reflect.Field;
 
 import org.scijava.command.CommandInfo;
+import org.scijava.module.Module;
 import org.scijava.plugin.SciJavaPlugin;
 import org.scijava.util.ClassUtils;
 
@@ -47,6 +48,13 @@ public class OpInfo implements Comparable<OpInfo> {
 
 	private final CommandInfo cInfo;
 
+	/** Input metadata for matching; built on demand by {@link #inputs()}. */
+	private volatile OpInputs inputs;
+
+	/** Direct op accessors; built on demand by {@link #accessors()}. */
+	private OpAccessors accessors;
+	private volatile boolean accessorsInitialized;
+
 	public OpInfo(final CommandInfo cInfo) {
 		this.cInfo = cInfo;
 	}
@@ -149,6 +157,58 @@ public class OpInfo implements Comparable<OpInfo> {
 		return opType;
 	}
 
+	/**
+	 * Gets the current values of the given op instance's inputs, in order.
+	 * <p>
+	 * For {@link net.imagej.ops.special.SpecialOp}s, the values are read
+	 * directly from the op's fields, rather than by wrapping the op in a
+	 * {@link Module}.
+	 * </p>
+	 */
+	public Object[] getInputValues(final Op op) {
+		final OpInputs in = inputs();
+		final Object[] values = new Object[in.count()];
+		final OpAccessors acc = accessors();
+		if (acc != null) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = acc.getInput(op, i);
+			}
+		}
+		else {
+			final Module module = cInfo().createModule(op);
+			for (int i = 0; i < values.length; i++) {
+				values[i] = in.item(i).getValue(module);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Gets the precomputed metadata of the op's inputs, as used during matching.
+	 */
+	OpInputs inputs() {
+		OpInputs result = inputs;
+		if (result == null) {
+			// NB: Concurrent calls may build it twice, which is harmless.
+			result = new OpInputs(cInfo().inputs());
+			inputs = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the cached accessors for instantiating the op without a
+	 * {@link Module}, or null if the op is not eligible for that.
+	 */
+	OpAccessors accessors() {
+		if (!accessorsInitialized) {
+			// NB: Concurrent calls may build them twice, which is harmless.
+			accessors = OpAccessors.create(this);
+			accessorsInitialized = true;
+		}
+		return accessors;
+	}
+
 	// -- Object methods --
 
 	@Override
@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.scijava.InstantiableException;
+
+/**
+ * Lookup table of {@link OpInfo}s, keyed on op name and op type.
+ * <p>
+ * The index is built once from an {@link OpEnvironment}'s
+ * {@link OpEnvironment#infos()}, so that finding the candidates for an
+ * {@link OpRef} only needs to visit the ops which could possibly match it,
+ * rather than every available op.
+ * </p>
+ * <p>
+ * The lookup is conservative: every {@link OpInfo} which could satisfy
+ * {@link OpInfo#nameMatches(String)} and {@link OpRef#typesMatch(Class)} is
+ * returned, but the returned ones still need to be checked individually. The
+ * original order of the infos is preserved, since op matching relies on
+ * candidates being sorted by priority.
+ * </p>
+ */
+class OpInfoIndex {
+
+	/** All indexed ops, in their original order. */
+	private final List<OpInfo> infos;
+
+	/** Table of op positions, keyed on name, alias and simple name. */
+	private final Map<String, List<Integer>> names = new HashMap<>();
+
+	/** Table of op positions, keyed on each {@link Op} type the op implements. */
+	private final Map<Class<?>, List<Integer>> types = new HashMap<>();
+
+	/** Positions of the ops whose class could not be loaded. */
+	private final List<Integer> invalid = new ArrayList<>();
+
+	public OpInfoIndex(final Collection<OpInfo> infos) {
+		this.infos = new ArrayList<>(infos);
+		for (int i = 0; i < this.infos.size(); i++) {
+			final OpInfo info = this.infos.get(i);
+			addName(info.getName(), i);
+			final String[] aliases = info.getAliases();
+			if (aliases != null) {
+				for (final String alias : aliases) {
+					addName(alias, i);
+				}
+			}
+			addTypes(info, i);
+		}
+	}
+
+	// -- OpInfoIndex methods --
+
+	/** Gets all indexed ops, in their original order. */
+	public List<OpInfo> infos() {
+		return Collections.unmodifiableList(infos);
+	}
+
+	/**
+	 * Gets the ops which could be candidates for at least one of the given
+	 * {@link OpRef}s, in their original order.
+	 */
+	public List<OpInfo> lookup(final List<OpRef<?>> refs) {
+		final boolean[] hits = new boolean[infos.size()];
+		for (final OpRef<?> ref : refs) {
+			final List<Integer> positions = positions(ref);
+			if (positions == null) return infos();
+			for (final int i : positions) {
+				hits[i] = true;
+			}
+			// NB: Ops which failed to load are kept, so that they get reported.
+			for (final int i : invalid) {
+				hits[i] = true;
+			}
+		}
+		final ArrayList<OpInfo> result = new ArrayList<>();
+		for (int i = 0; i < hits.length; i++) {
+			if (hits[i]) result.add(infos.get(i));
+		}
+		return result;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Gets the positions of the ops which could match the given reference, or
+	 * null if the reference does not constrain the name nor the type.
+	 */
+	private List<Integer> positions(final OpRef<?> ref) {
+		if (ref.getName() != null) return get(names, ref.getName());
+		if (ref.getType() != null) return get(types, ref.getType());
+		return null;
+	}
+
+	private void addName(final String name, final int i) {
+		if (name == null) return;
+		add(names, name, i);
+		// NB: Names without namespace also match; e.g. 'add' for 'math.add'.
+		final int dot = name.lastIndexOf(".");
+		if (dot >= 0) add(names, name.substring(dot + 1), i);
+	}
+
+	private void addTypes(final OpInfo info, final int i) {
+		final Class<?> opClass;
+		try {
+			opClass = info.cInfo().loadClass();
+		}
+		catch (final InstantiableException exc) {
+			invalid.add(i);
+			return;
+		}
+		addTypes(opClass, i);
+	}
+
+	/** Indexes the given class and all its supertypes which are {@link Op}s. */
+	private void addTypes(final Class<?> c, final int i) {
+		if (c == null || !Op.class.isAssignableFrom(c)) return;
+		final List<Integer> positions = types.computeIfAbsent(c,
+			k -> new ArrayList<>());
+		// NB: Supertypes reached along multiple paths are indexed only once.
+		if (!positions.isEmpty() && positions.get(positions.size() - 1) == i) {
+			return;
+		}
+		positions.add(i);
+		addTypes(c.getSuperclass(), i);
+		for (final Class<?> iface : c.getInterfaces()) {
+			addTypes(iface, i);
+		}
+	}
+
+	private static <K> void add(final Map<K, List<Integer>> map, final K key,
+		final int i)
+	{
+		final List<Integer> positions = map.computeIfAbsent(key,
+			k -> new ArrayList<>());
+		// NB: An op whose name and alias coincide is indexed only once.
+		if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+			positions.add(i);
+		}
+	}
+
+	private static <K> List<Integer> get(final Map<K, List<Integer>> map,
+		final K key)
+	{
+		final List<Integer> positions = map.get(key);
+		return positions == null ? Collections.<Integer> emptyList() : positions;
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.util.ArrayList;
+
+import org.scijava.module.ModuleItem;
+
+/**
+ * Compact description of an op's input parameters, as needed during matching.
+ * <p>
+ * The {@link OpMatchingService} inspects the inputs of every candidate op at
+ * several stages. This class extracts the relevant metadata once per
+ * {@link OpInfo}, so that the matching stages can share it rather than
+ * iterating the {@link ModuleItem}s and querying their types over and over.
+ * </p>
+ *
+ * @see OpInfo#inputs()
+ */
+final class OpInputs {
+
+	private final ModuleItem<?>[] items;
+	private final Class<?>[] types;
+	private final boolean[] required;
+	private final int requiredCount;
+
+	public OpInputs(final Iterable<ModuleItem<?>> inputs) {
+		final ArrayList<ModuleItem<?>> list = new ArrayList<>();
+		for (final ModuleItem<?> item : inputs) {
+			list.add(item);
+		}
+		items = list.toArray(new ModuleItem<?>[list.size()]);
+		types = new Class<?>[items.length];
+		required = new boolean[items.length];
+		int count = 0;
+		for (int i = 0; i < items.length; i++) {
+			types[i] = OpMatchingUtil.getClass(items[i].getType());
+			required[i] = items[i].isRequired();
+			if (required[i]) count++;
+		}
+		requiredCount = count;
+	}
+
+	/** Gets the number of inputs. */
+	public int count() {
+		return items.length;
+	}
+
+	/** Gets the number of required inputs. */
+	public int requiredCount() {
+		return requiredCount;
+	}
+
+	/** Gets the number of optional inputs. */
+	public int optionalCount() {
+		return items.length - requiredCount;
+	}
+
+	/** Gets the input at the given position. */
+	public ModuleItem<?> item(final int i) {
+		return items[i];
+	}
+
+	/** Gets the raw class of the input at the given position. */
+	public Class<?> type(final int i) {
+		return types[i];
+	}
+
+	/** Gets whether the input at the given position is required. */
+	public boolean isRequired(final int i) {
+		return required[i];
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, thread-safe table remembering which {@link OpInfo} won the match
+ * for a given request signature.
+ * <p>
+ * A signature consists of the name, types and output types of each
+ * {@link OpRef}, together with the runtime classes of its arguments. When a
+ * request with the same signature comes in again, the remembered op can be
+ * tried directly, skipping the full matching chain; only its
+ * {@link Contingent#conforms()} check needs to run again.
+ * </p>
+ * <p>
+ * The least recently used signatures are discarded once the table is full.
+ * </p>
+ */
+class OpMatchCache {
+
+	private final Map<Key, Match> matches;
+
+	public OpMatchCache(final int maxSize) {
+		matches = new LinkedHashMap<Key, Match>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, Match> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	// -- OpMatchCache methods --
+
+	/**
+	 * Creates the signature of the given request, or null if the request cannot
+	 * be cached (e.g., because some argument is a generic {@link Type} rather
+	 * than a concrete object).
+	 */
+	public static Key key(final List<OpRef<?>> refs) {
+		final ArrayList<Object> parts = new ArrayList<>();
+		for (final OpRef<?> ref : refs) {
+			parts.add(ref.getName());
+			parts.add(ref.getType());
+			parts.add(ref.getExtraTypes());
+			parts.add(ref.getOutTypes());
+			final Object[] args = ref.getArgs();
+			parts.add(args.length);
+			for (final Object arg : args) {
+				if (arg instanceof Type && !(arg instanceof Class)) return null;
+				// NB: A Class argument is a typed null placeholder; the class itself
+				// is then part of the signature, rather than Class.class only.
+				parts.add(arg == null ? null : arg.getClass());
+				parts.add(arg instanceof Class ? arg : null);
+			}
+		}
+		return new Key(parts.toArray());
+	}
+
+	/** Gets the remembered match for the given signature, or null if none. */
+	public synchronized Match get(final Key key) {
+		return matches.get(key);
+	}
+
+	/**
+	 * Remembers that the given op, matched against the reference at the given
+	 * position, won the match for the given signature.
+	 */
+	public synchronized void put(final Key key, final int refIndex,
+		final OpInfo info)
+	{
+		matches.put(key, new Match(refIndex, info));
+	}
+
+	/** Gets the number of remembered matches. */
+	public synchronized int size() {
+		return matches.size();
+	}
+
+	// -- Helper classes --
+
+	/** Signature of a matching request. */
+	public static final class Key {
+
+		private final Object[] parts;
+		private final int hash;
+
+		private Key(final Object[] parts) {
+			this.parts = parts;
+			hash = Arrays.hashCode(parts);
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (o == this) return true;
+			if (!(o instanceof Key)) return false;
+			final Key that = (Key) o;
+			return hash == that.hash && Arrays.equals(parts, that.parts);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/** A remembered winning op. */
+	public static final class Match {
+
+		private final int refIndex;
+		private final OpInfo info;
+
+		private Match(final int refIndex, final OpInfo info) {
+			this.refIndex = refIndex;
+			this.info = info;
+		}
+
+		/** Gets the position of the {@link OpRef} which the op matched. */
+		public int refIndex() {
+			return refIndex;
+		}
+
+		/** Gets the winning op. */
+		public OpInfo info() {
+			return info;
+		}
+	}
+
+}
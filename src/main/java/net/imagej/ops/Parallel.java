@@ -38,9 +38,15 @@ package net.imagej.ops;
  * {@link Threadable#getIndependentInstance()} method, but there is no
  * requirement that parallel ops necessarily work in this way.
  * </p>
+ * <p>
+ * Parallel ops limit the threads they use, and choose the executor they submit
+ * their tasks to, according to the {@link ParallelContext} which applies to
+ * them.
+ * </p>
  * 
  * @author Curtis Rueden
  * @see Threadable
+ * @see ParallelContext
  * @see net.imagej.ops.thread.chunker
  */
 public interface Parallel {
@@ -0,0 +1,249 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.scijava.thread.ThreadService;
+
+/**
+ * Execution context of {@link Parallel} ops: the maximum number of threads a
+ * single op invocation may use, and the executor its tasks are submitted to.
+ * <p>
+ * A context is set either per {@link OpEnvironment} (see
+ * {@link CustomOpEnvironment#setParallelContext}) or for the calls made by the
+ * current thread (see {@link #run(Runnable)} and {@link #call(Callable)}).
+ * Parallel ops look up the context which applies to them via
+ * {@link #current(OpEnvironment)}.
+ * </p>
+ * <p>
+ * A context never owns an executor which needs shutting down: a given executor
+ * stays owned by the caller, and the pools limited to a thread count are
+ * shared by all contexts with the same limit, and consist of daemon threads
+ * which terminate when idle.
+ * </p>
+ * 
+ * @see Parallel
+ */
+public final class ParallelContext {
+
+	/** Context using all available processors and the {@link ThreadService}. */
+	public static final ParallelContext DEFAULT = new ParallelContext(0, null);
+
+	/** Context set for the calls made by the current thread, if any. */
+	private static final ThreadLocal<ParallelContext> CURRENT =
+		new ThreadLocal<>();
+
+	/** Whether the current thread is a worker of a parallel op. */
+	private static final ThreadLocal<Boolean> IN_PARALLEL_REGION =
+		new ThreadLocal<>();
+
+	/** Pools limited to a number of threads, shared by all contexts. */
+	private static final ConcurrentMap<Integer, ExecutorService> BOUNDED_POOLS =
+		new ConcurrentHashMap<>();
+
+	private final int maxThreads;
+
+	private final ExecutorService executor;
+
+	/**
+	 * Creates a new parallel context.
+	 * 
+	 * @param maxThreads the maximum number of threads one op invocation may use,
+	 *          or zero (or less) for the number of available processors
+	 * @param executor the executor to submit tasks to, or null for the executor
+	 *          of the {@link ThreadService} (or a shared pool limited to
+	 *          {@code maxThreads}, if given). The caller remains responsible for
+	 *          shutting down the given executor.
+	 */
+	public ParallelContext(final int maxThreads, final ExecutorService executor)
+	{
+		this.maxThreads = maxThreads;
+		this.executor = executor;
+	}
+
+	// -- Static utility methods --
+
+	/** Creates a context limiting op invocations to the given thread count. */
+	public static ParallelContext threads(final int maxThreads) {
+		return new ParallelContext(maxThreads, null);
+	}
+
+	/** Creates a context submitting the tasks of ops to the given executor. */
+	public static ParallelContext executor(final ExecutorService executor) {
+		return new ParallelContext(0, executor);
+	}
+
+	/**
+	 * Gets the context which applies to a parallel op of the given environment
+	 * executed by the current thread: the one set for the current thread, if
+	 * any, else the one of the environment.
+	 */
+	public static ParallelContext current(final OpEnvironment env) {
+		final ParallelContext context = CURRENT.get();
+		if (context != null) return context;
+		return env == null ? DEFAULT : env.getParallelContext();
+	}
+
+	/**
+	 * Gets whether the current thread is already running inside a parallel
+	 * region, i.e. is a worker thread of a parallel op. Parallel ops executed
+	 * within a parallel region should run sequentially on the current thread,
+	 * since the region already occupies the threads of the context; submitting
+	 * further tasks would only oversubscribe them.
+	 */
+	public static boolean isInParallelRegion() {
+		return IN_PARALLEL_REGION.get() != null;
+	}
+
+	// -- ParallelContext methods --
+
+	/** Gets the maximum number of threads one op invocation may use. */
+	public int getMaxThreads() {
+		return maxThreads > 0 ? maxThreads : Runtime.getRuntime()
+			.availableProcessors();
+	}
+
+	/** Gets the executor given for this context, or null if none. */
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Gets the executor to which parallel ops submit their tasks: the executor
+	 * given for this context, if any; else the pool limited to the maximum
+	 * number of threads, if given; else the executor of the given
+	 * {@link ThreadService}.
+	 * <p>
+	 * NB: The executor of the {@link ThreadService} does not limit its number
+	 * of threads, hence the separate pools. Callers must not shut down the
+	 * returned executor; see the class documentation.
+	 * </p>
+	 */
+	public ExecutorService getExecutorService(final ThreadService threadService)
+	{
+		if (executor != null) return executor;
+		if (maxThreads <= 0) return threadService.getExecutorService();
+		return BOUNDED_POOLS.computeIfAbsent(maxThreads,
+			ParallelContext::createPool);
+	}
+
+	/** Runs the given code with this context set for the current thread. */
+	public void run(final Runnable runnable) {
+		final ParallelContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			runnable.run();
+		}
+		finally {
+			restore(previous);
+		}
+	}
+
+	/** Calls the given code with this context set for the current thread. */
+	public <T> T call(final Callable<T> callable) throws Exception {
+		final ParallelContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return callable.call();
+		}
+		finally {
+			restore(previous);
+		}
+	}
+
+	/**
+	 * Wraps the given code such that it runs with this context set for the
+	 * thread executing it, as part of a parallel region. Used by parallel ops to
+	 * hand the context on to their worker threads.
+	 *
+	 * @see #isInParallelRegion()
+	 */
+	public Runnable wrap(final Runnable runnable) {
+		return () -> {
+			final Boolean inRegion = IN_PARALLEL_REGION.get();
+			IN_PARALLEL_REGION.set(Boolean.TRUE);
+			try {
+				run(runnable);
+			}
+			finally {
+				if (inRegion == null) IN_PARALLEL_REGION.remove();
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given code such that it is called with this context set for the
+	 * thread executing it, as part of a parallel region. Used by parallel ops to
+	 * hand the context on to their worker threads.
+	 *
+	 * @see #isInParallelRegion()
+	 */
+	public <T> Callable<T> wrap(final Callable<T> callable) {
+		return () -> {
+			final Boolean inRegion = IN_PARALLEL_REGION.get();
+			IN_PARALLEL_REGION.set(Boolean.TRUE);
+			try {
+				return call(callable);
+			}
+			finally {
+				if (inRegion == null) IN_PARALLEL_REGION.remove();
+			}
+		};
+	}
+
+	// -- Object methods --
+
+	@Override
+	public String toString() {
+		return "ParallelContext[maxThreads=" + getMaxThreads() + ", executor=" +
+			executor + "]";
+	}
+
+	// -- Helper methods --
+
+	private static ExecutorService createPool(final int maxThreads) {
+		// NB: A ForkJoinPool lets tasks blocking on other tasks of the same pool
+		// help out, instead of deadlocking the limited set of threads. Its
+		// worker threads are daemons, and terminate after being idle a while.
+		return new ForkJoinPool(maxThreads);
+	}
+
+	private static void restore(final ParallelContext previous) {
+		if (previous == null) CURRENT.remove();
+		else CURRENT.set(previous);
+	}
+
+}
@@ -31,6 +31,7 @@
 package net.imagej.ops.cached;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 import net.imagej.ops.AbstractOp;
@@ -39,25 +40,31 @@ import net.imagej.ops.Op;
 import net.imagej.ops.OpEnvironment;
 import net.imagej.ops.OpInfo;
 import net.imagej.ops.OpRef;
+import net.imagej.ops.special.computer.BinaryComputerOp;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.special.function.BinaryFunctionOp;
 import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.BinaryHybridCF;
 import net.imagej.ops.special.hybrid.UnaryHybridCF;
 
 import org.scijava.Priority;
-import org.scijava.cache.CacheService;
-import org.scijava.command.CommandInfo;
-import org.scijava.module.Module;
-import org.scijava.module.ModuleItem;
-import org.scijava.plugin.Parameter;
 
 /**
  * Creates {@link CachedFunctionOp}s which know how to cache their outputs.
+ * Unary and binary functions and hybrids are supported. Only their function
+ * calls are cached: computers are commonly mapped over reused input objects,
+ * such as the type of a cursor or a neighborhood, whose identity does not
+ * change with their content.
+ * <p>
+ * The outputs are stored in an {@link OpResultCache} dedicated to this
+ * environment, which bounds the number and total size of the cached outputs.
+ * </p>
  * 
  * @author Christian Dietz, University of Konstanz
  */
 public class CachedOpEnvironment extends CustomOpEnvironment {
 
-	@Parameter
-	private CacheService cs;
+	private final OpResultCache cache;
 	private Collection<Class<?>> ignoredOps;
 
 	public CachedOpEnvironment(final OpEnvironment parent) {
@@ -73,6 +80,13 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	public CachedOpEnvironment(final OpEnvironment parent,
 		final Collection<? extends OpInfo> prioritizedInfos,
 		final Collection<Class<?>> ignoredOps)
+	{
+		this(parent, prioritizedInfos, ignoredOps, new OpResultCache());
+	}
+
+	public CachedOpEnvironment(final OpEnvironment parent,
+		final Collection<? extends OpInfo> prioritizedInfos,
+		final Collection<Class<?>> ignoredOps, final OpResultCache cache)
 	{
 		super(parent, prioritizedInfos);
 
@@ -81,6 +95,12 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		}
 
 		this.ignoredOps = ignoredOps;
+		this.cache = cache;
+	}
+
+	/** Gets the cache holding the outputs computed in this environment. */
+	public OpResultCache getCache() {
+		return cache;
 	}
 
 	@Override
@@ -88,13 +108,19 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		final Op op = super.op(ref);
 
 		for (final Class<?> ignored : ignoredOps) {
-			if (ignored.isAssignableFrom(ref.getType())) {
+			if (ref.getType() != null && ignored.isAssignableFrom(ref.getType())) {
 				return op;
 			}
 		}
 
 		final Op cachedOp;
-		if (op instanceof UnaryHybridCF) {
+		if (op instanceof BinaryHybridCF) {
+			cachedOp = wrapBinaryHybrid((BinaryHybridCF<?, ?, ?>) op);
+		}
+		else if (op instanceof BinaryFunctionOp) {
+			cachedOp = wrapBinaryFunction((BinaryFunctionOp<?, ?, ?>) op);
+		}
+		else if (op instanceof UnaryHybridCF) {
 			cachedOp = wrapUnaryHybrid((UnaryHybridCF<?, ?>) op);
 		}
 		else if (op instanceof UnaryFunctionOp) {
@@ -102,6 +128,13 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		}
 		else return op;
 
+		// NB: The wrapper must still be usable as the requested special op type.
+		if (ref.getExtraTypes() != null) {
+			for (final Class<?> type : ref.getExtraTypes()) {
+				if (!type.isInstance(cachedOp)) return op;
+			}
+		}
+
 		getContext().inject(cachedOp);
 		return cachedOp;
 	}
@@ -120,19 +153,26 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		return new CachedHybridOp<>(op, otherArgs(op, 2));
 	}
 
+	private <I1, I2, O> CachedBinaryFunctionOp<I1, I2, O> wrapBinaryFunction(
+		final BinaryFunctionOp<I1, I2, O> op)
+	{
+		return new CachedBinaryFunctionOp<>(op, otherArgs(op, 2));
+	}
+
+	private <I1, I2, O> CachedBinaryHybridOp<I1, I2, O> wrapBinaryHybrid(
+		final BinaryHybridCF<I1, I2, O> op)
+	{
+		return new CachedBinaryHybridOp<>(op, otherArgs(op, 3));
+	}
+
 	/**
 	 * Gets the given {@link Op} instance's argument value, starting at the
 	 * specified offset.
 	 */
 	private Object[] otherArgs(final Op op, final int offset) {
-		final CommandInfo cInfo = info(op).cInfo();
-		final Module module = cInfo.createModule(op);
-		final ArrayList<Object> args = new ArrayList<>();
-		int i = 0;
-		for (final ModuleItem<?> input : cInfo.inputs()) {
-			if (i++ >= offset) args.add(input.getValue(module));
-		}
-		return args.toArray();
+		final Object[] values = info(op).getInputValues(op);
+		if (offset >= values.length) return new Object[0];
+		return Arrays.copyOfRange(values, offset, values.length);
 	}
 
 	// -- Helper classes --
@@ -149,9 +189,6 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		UnaryFunctionOp<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryFunctionOp<I, O> delegate;
 
 		private final Object[] args;
@@ -165,15 +202,14 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public O compute1(final I input) {
-
-			final Hash hash = new Hash(input, delegate, args);
+			if (input == null) return delegate.compute1(input);
 
 			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
+			O output = (O) cache.get(input, delegate.getClass(), args);
 
 			if (output == null) {
 				output = delegate.compute1(input);
-				cache.put(hash, output);
+				cache.put(input, delegate.getClass(), args, output);
 			}
 			return output;
 		}
@@ -213,7 +249,8 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	/**
 	 * Wraps a {@link UnaryHybridCF} and caches the results. New inputs will
 	 * result in re-computation if {@link UnaryHybridCF} is used as
-	 * {@link UnaryFunctionOp}.
+	 * {@link UnaryFunctionOp}. Used as {@link UnaryComputerOp}, the result is
+	 * always computed.
 	 * 
 	 * @author Christian Dietz, University of Konstanz
 	 * @param <I>
@@ -223,9 +260,6 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		UnaryHybridCF<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryHybridCF<I, O> delegate;
 
 		private final Object[] args;
@@ -240,15 +274,15 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public O compute1(final I input) {
-			final Hash hash = new Hash(input, delegate, args);
+			if (input == null) return delegate.compute1(input);
 
 			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
+			O output = (O) cache.get(input, delegate.getClass(), args);
 
 			if (output == null) {
 				output = createOutput(input);
-				compute1(input, output);
-				cache.put(hash, output);
+				delegate.compute1(input, output);
+				cache.put(input, delegate.getClass(), args, output);
 			}
 			return output;
 		}
@@ -260,6 +294,7 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public void compute1(final I input, final O output) {
+			// NB: Not cached; see the class documentation.
 			delegate.compute1(input, output);
 		}
 
@@ -275,33 +310,147 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	}
 
 	/**
-	 * Simple utility class to wrap two objects and an array of objects in a
-	 * single object which combines their hashes.
+	 * Wraps a {@link BinaryFunctionOp} and caches the results. New inputs will
+	 * result in re-computation of the result.
+	 * 
+	 * @param <I1>
+	 * @param <I2>
+	 * @param <O>
+	 */
+	class CachedBinaryFunctionOp<I1, I2, O> extends AbstractOp implements
+		BinaryFunctionOp<I1, I2, O>
+	{
+
+		private final BinaryFunctionOp<I1, I2, O> delegate;
+
+		private final Object[] args;
+
+		public CachedBinaryFunctionOp(final BinaryFunctionOp<I1, I2, O> delegate,
+			final Object[] args)
+		{
+			this.delegate = delegate;
+			this.args = args;
+		}
+
+		@Override
+		public O compute2(final I1 input1, final I2 input2) {
+			if (input1 == null || input2 == null) {
+				return delegate.compute2(input1, input2);
+			}
+
+			@SuppressWarnings("unchecked")
+			O output = (O) cache.get(input1, input2, delegate.getClass(), args);
+
+			if (output == null) {
+				output = delegate.compute2(input1, input2);
+				cache.put(input1, input2, delegate.getClass(), args, output);
+			}
+			return output;
+		}
+
+		@Override
+		public void run() {
+			delegate.run();
+		}
+
+		@Override
+		public I1 in1() {
+			return delegate.in1();
+		}
+
+		@Override
+		public I2 in2() {
+			return delegate.in2();
+		}
+
+		@Override
+		public void setInput1(final I1 input1) {
+			delegate.setInput1(input1);
+		}
+
+		@Override
+		public void setInput2(final I2 input2) {
+			delegate.setInput2(input2);
+		}
+
+		@Override
+		public O out() {
+			return delegate.out();
+		}
+
+		@Override
+		public void initialize() {
+			delegate.initialize();
+		}
+
+		@Override
+		public CachedBinaryFunctionOp<I1, I2, O> getIndependentInstance() {
+			return this;
+		}
+
+	}
+
+	/**
+	 * Wraps a {@link BinaryHybridCF} and caches the results. Used as a
+	 * {@link BinaryFunctionOp}, the cached result itself is returned; used as a
+	 * {@link BinaryComputerOp}, the result is always computed.
+	 * 
+	 * @param <I1>
+	 * @param <I2>
+	 * @param <O>
 	 */
-	private class Hash {
+	class CachedBinaryHybridOp<I1, I2, O> extends
+		CachedBinaryFunctionOp<I1, I2, O> implements BinaryHybridCF<I1, I2, O>
+	{
+
+		private final BinaryHybridCF<I1, I2, O> delegate;
+
+		private final Object[] args;
+
+		public CachedBinaryHybridOp(final BinaryHybridCF<I1, I2, O> delegate,
+			final Object[] args)
+		{
+			super(delegate, args);
+			this.delegate = delegate;
+			this.args = args;
+		}
 
-		private final int hash;
+		@Override
+		public O compute2(final I1 input1, final I2 input2) {
+			if (input1 == null || input2 == null) {
+				return delegate.compute2(input1, input2);
+			}
 
-		public Hash(final Object o1, final Object o2, final Object[] args) {
-			long h = o1.hashCode() ^ o2.getClass().getSimpleName().hashCode();
+			@SuppressWarnings("unchecked")
+			O output = (O) cache.get(input1, input2, delegate.getClass(), args);
 
-			for (final Object o : args) {
-				h ^= o.hashCode();
+			if (output == null) {
+				output = createOutput(input1, input2);
+				delegate.compute2(input1, input2, output);
+				cache.put(input1, input2, delegate.getClass(), args, output);
 			}
+			return output;
+		}
 
-			hash = (int) h;
+		@Override
+		public void compute2(final I1 input1, final I2 input2, final O output) {
+			// NB: Not cached; see the class documentation.
+			delegate.compute2(input1, input2, output);
 		}
 
 		@Override
-		public int hashCode() {
-			return hash;
+		public O createOutput(final I1 input1, final I2 input2) {
+			return delegate.createOutput(input1, input2);
 		}
 
 		@Override
-		public boolean equals(final Object obj) {
-			if (obj == this) return true;
-			if (obj instanceof Hash) return hash == ((Hash) obj).hash;
-			return false;
+		public void setOutput(final O output) {
+			delegate.setOutput(output);
+		}
+
+		@Override
+		public CachedBinaryHybridOp<I1, I2, O> getIndependentInstance() {
+			return this;
 		}
 	}
-}
\ No newline at end of file
+}
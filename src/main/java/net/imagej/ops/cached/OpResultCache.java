@@ -0,0 +1,375 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+/**
+ * A bounded cache for the results computed by the ops of a
+ * {@link CachedOpEnvironment}.
+ * <p>
+ * Results are keyed on the input(s) they were computed from, the class of the
+ * op which computed them and the op's other arguments. Inputs are only weakly
+ * referenced: once an input is garbage collected, the results computed from it
+ * are discarded as well. Note that a result which itself references its input
+ * (e.g., a view) keeps the input alive until the result is evicted.
+ * </p>
+ * <p>
+ * The cache is bounded both in number of entries and in (estimated) bytes.
+ * When either bound is exceeded, the least recently used results are evicted
+ * first.
+ * </p>
+ */
+public class OpResultCache {
+
+	/** Default maximum number of cached results. */
+	public static final long DEFAULT_MAX_ENTRIES = 10000;
+
+	/** Default maximum number of bytes held by the cached results. */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	private final long maxEntries;
+	private final long maxBytes;
+	private final ToLongFunction<Object> sizeEstimator;
+
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16,
+		0.75f, true);
+	private final ReferenceQueue<Object> staleInputs = new ReferenceQueue<>();
+
+	private long bytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/** Creates a cache with the default bounds. */
+	public OpResultCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Creates a cache with the given bounds, estimating the size of the results
+	 * with {@link #estimateSize(Object)}.
+	 */
+	public OpResultCache(final long maxEntries, final long maxBytes) {
+		this(maxEntries, maxBytes, OpResultCache::estimateSize);
+	}
+
+	/**
+	 * Creates a cache with the given bounds, estimating the size of the results
+	 * with the given function.
+	 */
+	public OpResultCache(final long maxEntries, final long maxBytes,
+		final ToLongFunction<Object> sizeEstimator)
+	{
+		if (maxEntries < 0 || maxBytes < 0) {
+			throw new IllegalArgumentException("Negative cache bounds: " +
+				maxEntries + " entries, " + maxBytes + " bytes");
+		}
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.sizeEstimator = sizeEstimator;
+	}
+
+	// -- OpResultCache methods --
+
+	/**
+	 * Gets the result previously computed from the given input by an op of the
+	 * given class with the given other arguments, or null if none is cached.
+	 */
+	public Object get(final Object input, final Class<?> opClass,
+		final Object[] args)
+	{
+		return lookup(new Object[] { input }, opClass, args);
+	}
+
+	/**
+	 * Gets the result previously computed from the given inputs by an op of the
+	 * given class with the given other arguments, or null if none is cached.
+	 */
+	public Object get(final Object input1, final Object input2,
+		final Class<?> opClass, final Object[] args)
+	{
+		return lookup(new Object[] { input1, input2 }, opClass, args);
+	}
+
+	/**
+	 * Caches the result computed from the given input by an op of the given
+	 * class with the given other arguments. Results which are larger than the
+	 * byte bound of the cache are not cached at all.
+	 */
+	public void put(final Object input, final Class<?> opClass,
+		final Object[] args, final Object value)
+	{
+		store(new Object[] { input }, opClass, args, value);
+	}
+
+	/**
+	 * Caches the result computed from the given inputs by an op of the given
+	 * class with the given other arguments. Results which are larger than the
+	 * byte bound of the cache are not cached at all.
+	 */
+	public void put(final Object input1, final Object input2,
+		final Class<?> opClass, final Object[] args, final Object value)
+	{
+		store(new Object[] { input1, input2 }, opClass, args, value);
+	}
+
+	/** Removes all cached results. Statistics are kept. */
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+		while (staleInputs.poll() != null) {
+			// NB: Drain the queue; the corresponding entries are gone already.
+		}
+	}
+
+	/** Gets the maximum number of cached results. */
+	public long getMaxEntries() {
+		return maxEntries;
+	}
+
+	/** Gets the maximum number of bytes held by the cached results. */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/** Gets the number of currently cached results. */
+	public synchronized int size() {
+		expungeStaleEntries();
+		return entries.size();
+	}
+
+	/** Gets the estimated number of bytes held by the cached results. */
+	public synchronized long getBytes() {
+		expungeStaleEntries();
+		return bytes;
+	}
+
+	/** Gets the number of lookups which found a cached result. */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/** Gets the number of lookups which found no cached result. */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/** Gets the number of results evicted to honor the cache bounds. */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "OpResultCache[entries=" + entries.size() + "/" + maxEntries +
+			", bytes=" + bytes + "/" + maxBytes + ", hits=" + hits + ", misses=" +
+			misses + ", evictions=" + evictions + "]";
+	}
+
+	// -- Utility methods --
+
+	/**
+	 * Estimates the number of bytes held by the given object. Images and other
+	 * {@link IterableInterval}s of {@link RealType}s are estimated from their
+	 * number of elements and bits per pixel; arrays and collections from their
+	 * length. Everything else counts as a small constant.
+	 */
+	public static long estimateSize(final Object o) {
+		final long overhead = 16;
+		if (o == null) return 0;
+		if (o instanceof IterableInterval) {
+			final IterableInterval<?> ii = (IterableInterval<?>) o;
+			final long count = ii.size();
+			if (count == 0) return overhead;
+			final Object first = ii.firstElement();
+			final long bytesPerElement = first instanceof RealType ? Math.max(1,
+				((RealType<?>) first).getBitsPerPixel() / 8) : overhead;
+			return overhead + count * bytesPerElement;
+		}
+		if (o.getClass().isArray()) {
+			final Class<?> component = o.getClass().getComponentType();
+			final long elementSize;
+			if (component == byte.class || component == boolean.class) {
+				elementSize = 1;
+			}
+			else if (component == short.class || component == char.class) {
+				elementSize = 2;
+			}
+			else if (component == int.class || component == float.class) {
+				elementSize = 4;
+			}
+			else elementSize = 8;
+			return overhead + Array.getLength(o) * elementSize;
+		}
+		if (o instanceof Collection) {
+			return overhead + ((Collection<?>) o).size() * overhead;
+		}
+		if (o instanceof Map) {
+			return overhead + ((Map<?, ?>) o).size() * 2 * overhead;
+		}
+		return overhead;
+	}
+
+	// -- Helper methods --
+
+	private synchronized Object lookup(final Object[] inputs,
+		final Class<?> opClass, final Object[] args)
+	{
+		expungeStaleEntries();
+		final Entry entry = entries.get(new Key(inputs, opClass, args, null));
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry.value;
+	}
+
+	private synchronized void store(final Object[] inputs,
+		final Class<?> opClass, final Object[] args, final Object value)
+	{
+		expungeStaleEntries();
+		final long size = sizeEstimator.applyAsLong(value);
+		if (size > maxBytes || maxEntries == 0) return;
+		final Key key = new Key(inputs, opClass, args, staleInputs);
+		final Entry previous = entries.put(key, new Entry(value, size));
+		if (previous != null) bytes -= previous.size;
+		bytes += size;
+		evict();
+	}
+
+	/** Evicts least recently used results until the bounds are honored. */
+	private void evict() {
+		final Iterator<Entry> iter = entries.values().iterator();
+		while ((entries.size() > maxEntries || bytes > maxBytes) && iter
+			.hasNext())
+		{
+			bytes -= iter.next().size;
+			iter.remove();
+			evictions++;
+		}
+	}
+
+	/** Removes the results whose input has been garbage collected. */
+	private void expungeStaleEntries() {
+		Object ref;
+		while ((ref = staleInputs.poll()) != null) {
+			final Key key = ((InputReference) ref).key;
+			final Entry entry = entries.remove(key);
+			if (entry != null) bytes -= entry.size;
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Weak reference to an input, which knows the key it belongs to. */
+	private static final class InputReference extends WeakReference<Object> {
+
+		private final Key key;
+
+		private InputReference(final Object input, final Key key,
+			final ReferenceQueue<Object> queue)
+		{
+			super(input, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * Key of a cached result. The inputs are compared by identity; the other
+	 * arguments by equality.
+	 */
+	private static final class Key {
+
+		private final InputReference[] inputs;
+		private final Class<?> opClass;
+		private final Object[] args;
+		private final int hash;
+
+		private Key(final Object[] inputs, final Class<?> opClass,
+			final Object[] args, final ReferenceQueue<Object> queue)
+		{
+			this.inputs = new InputReference[inputs.length];
+			int h = opClass.hashCode() * 31 + Arrays.hashCode(args);
+			for (int i = 0; i < inputs.length; i++) {
+				this.inputs[i] = new InputReference(inputs[i], this, queue);
+				h = h * 31 + System.identityHashCode(inputs[i]);
+			}
+			this.opClass = opClass;
+			this.args = args;
+			hash = h;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (o == this) return true;
+			if (!(o instanceof Key)) return false;
+			final Key that = (Key) o;
+			if (hash != that.hash || opClass != that.opClass) return false;
+			if (inputs.length != that.inputs.length) return false;
+			for (int i = 0; i < inputs.length; i++) {
+				final Object in = inputs[i].get();
+				if (in == null || in != that.inputs[i].get()) return false;
+			}
+			return Arrays.equals(args, that.args);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/** A cached result, with its estimated size. */
+	private static final class Entry {
+
+		private final Object value;
+		private final long size;
+
+		private Entry(final Object value, final long size) {
+			this.value = value;
+			this.size = size;
+		}
+	}
+
+}
@@ -35,6 +35,7 @@ import net.imagej.ops.Namespace;
 import net.imagej.ops.OpMethod;
 import net.imagej.ops.Ops;
 import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.ComplexType;
@@ -80,6 +81,18 @@ public class ConvertNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.convert.ConvertViews.Clip.class)
+	public <I extends RealType<I>, O extends RealType<O>>
+		RandomAccessibleInterval<O> clip(final RandomAccessibleInterval<I> in,
+			final O outType)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(Ops.Convert.Clip.class, in,
+				outType);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.convert.copy.CopyRealTypes.class)
 	public <I extends RealType<I>, O extends RealType<O>> O copy(final O out,
 		final I in)
@@ -90,8 +103,21 @@ public class ConvertNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.convert.imageType.ConvertIIs.class)
+	@OpMethod(op = net.imagej.ops.convert.ConvertViews.Copy.class)
+	public <I extends RealType<I>, O extends RealType<O>>
+		RandomAccessibleInterval<O> copy(final RandomAccessibleInterval<I> in,
+			final O outType)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(Ops.Convert.Copy.class, in,
+				outType);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.convert.imageType.ConvertIIs.class,
+		net.imagej.ops.convert.imageType.ConvertNativeImgs.NativeImgToNativeImg.class,
+		net.imagej.ops.convert.imageType.ConvertNativeImgs.NativeImgToNativeImgParallel.class })
 	public <I extends RealType<I>, O extends RealType<O>> IterableInterval<O>
 		imageType(final IterableInterval<O> out, final IterableInterval<I> in,
 			final RealTypeConverter<I, O> typeConverter)
@@ -115,6 +141,18 @@ public class ConvertNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.convert.ConvertViews.NormalizeScale.class)
+	public <I extends RealType<I>, O extends RealType<O>>
+		RandomAccessibleInterval<O> normalizeScale(final RandomAccessibleInterval<I> in,
+			final O outType)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(Ops.Convert.NormalizeScale.class, in,
+				outType);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.convert.scale.ScaleRealTypes.class)
 	public <I extends RealType<I>, O extends RealType<O>> O scale(final O out,
 		final I in)
@@ -125,6 +163,18 @@ public class ConvertNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.convert.ConvertViews.Scale.class)
+	public <I extends RealType<I>, O extends RealType<O>>
+		RandomAccessibleInterval<O> scale(final RandomAccessibleInterval<I> in,
+			final O outType)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(Ops.Convert.Scale.class, in,
+				outType);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.convert.ConvertImages.Bit.class)
 	public <C extends ComplexType<C>> Img<BitType> bit(
 		final IterableInterval<C> in)
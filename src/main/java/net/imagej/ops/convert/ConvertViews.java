@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.convert.clip.ClipRealTypes;
+import net.imagej.ops.convert.copy.CopyRealTypes;
+import net.imagej.ops.convert.normalizeScale.NormalizeScaleRealTypes;
+import net.imagej.ops.convert.scale.ScaleRealTypes;
+import net.imagej.ops.special.function.AbstractBinaryFunctionOp;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.converter.Converters;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.plugin.Plugin;
+
+/**
+ * Ops for converting images between types lazily.
+ * <p>
+ * Instead of allocating a converted copy, these ops return a view of the input
+ * which applies a {@link RealTypeConverter} to each value as it is read. Any
+ * parameters of the converter, such as the input range of
+ * {@link NormalizeScale}, are computed once when the view is created and
+ * cached in the view; later changes to the input values are reflected in the
+ * view, but do not update those parameters.
+ * </p>
+ */
+public final class ConvertViews {
+
+	private ConvertViews() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	@Plugin(type = Ops.Convert.Clip.class)
+	public static class Clip<I extends RealType<I>, O extends RealType<O>>
+		extends ConvertView<I, O> implements Ops.Convert.Clip
+	{
+
+		@Override
+		protected RealTypeConverter<I, O> createConverter() {
+			return new ClipRealTypes<>();
+		}
+	}
+
+	@Plugin(type = Ops.Convert.Copy.class)
+	public static class Copy<I extends RealType<I>, O extends RealType<O>>
+		extends ConvertView<I, O> implements Ops.Convert.Copy
+	{
+
+		@Override
+		protected RealTypeConverter<I, O> createConverter() {
+			return new CopyRealTypes<>();
+		}
+	}
+
+	@Plugin(type = Ops.Convert.Scale.class)
+	public static class Scale<I extends RealType<I>, O extends RealType<O>>
+		extends ConvertView<I, O> implements Ops.Convert.Scale
+	{
+
+		@Override
+		protected RealTypeConverter<I, O> createConverter() {
+			return new ScaleRealTypes<>();
+		}
+	}
+
+	@Plugin(type = Ops.Convert.NormalizeScale.class)
+	public static class NormalizeScale<I extends RealType<I>, O extends RealType<O>>
+		extends ConvertView<I, O> implements Ops.Convert.NormalizeScale
+	{
+
+		@Override
+		protected RealTypeConverter<I, O> createConverter() {
+			final NormalizeScaleRealTypes<I, O> converter =
+				new NormalizeScaleRealTypes<>();
+			converter.setEnvironment(ops());
+			converter.initialize();
+			return converter;
+		}
+	}
+
+	// -- Helper classes --
+
+	private abstract static class ConvertView<I extends RealType<I>, O extends RealType<O>>
+		extends
+		AbstractBinaryFunctionOp<RandomAccessibleInterval<I>, O, RandomAccessibleInterval<O>>
+	{
+
+		protected abstract RealTypeConverter<I, O> createConverter();
+
+		@Override
+		public RandomAccessibleInterval<O> compute2(
+			final RandomAccessibleInterval<I> input, final O outType)
+		{
+			final RealTypeConverter<I, O> converter = createConverter();
+			converter.checkInput(Util.getTypeFromInterval(input).createVariable(),
+				outType.createVariable());
+			converter.checkInput(Views.iterable(input));
+			return Converters.convert(input, (i, o) -> converter.compute1(i, o),
+				outType.createVariable());
+		}
+	}
+
+}
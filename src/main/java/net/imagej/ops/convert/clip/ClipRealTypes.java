@@ -75,4 +75,16 @@ public class ClipRealTypes<I extends RealType<I>, O extends RealType<O>>
 		// nothing to do here
 	}
 
+	// -- ClipRealTypes methods --
+
+	/** Gets the lower bound to which values are clipped. */
+	public double getOutMin() {
+		return outMin;
+	}
+
+	/** Gets the upper bound to which values are clipped. */
+	public double getOutMax() {
+		return outMax;
+	}
+
 }
@@ -0,0 +1,237 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert.imageType;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.clip.ClipRealTypes;
+import net.imagej.ops.convert.copy.CopyRealTypes;
+import net.imagej.ops.convert.normalizeScale.NormalizeScaleRealTypes;
+import net.imagej.ops.convert.scale.ScaleRealTypes;
+import net.imagej.ops.math.StorageArrays;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link Ops.Convert.ImageType} ops between {@link ArrayImg}s,
+ * {@link PlanarImg}s or {@link CellImg}s of equal layout. Instead of mapping
+ * the {@link RealTypeConverter} pixel by pixel, they run the equivalent
+ * {@link ConvertArrays} kernel over the primitive storage arrays, and take
+ * precedence over {@link ConvertIIs} whenever the converter is one of
+ * {@link CopyRealTypes}, {@link ClipRealTypes}, {@link ScaleRealTypes} or
+ * {@link NormalizeScaleRealTypes}.
+ *
+ * @see StorageArrays#compatible
+ */
+public class ConvertNativeImgs {
+
+	private ConvertNativeImgs() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Converts between images with primitive array storage.
+	 *
+	 * @param <I> element type of inputs
+	 * @param <O> element type of outputs
+	 */
+	@Plugin(type = Ops.Convert.ImageType.class, priority = Priority.HIGH_PRIORITY)
+	public static class NativeImgToNativeImg<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractNativeImgConverter<I, O>
+	{
+
+		@Override
+		public void compute1(final IterableInterval<I> input,
+			final IterableInterval<O> output)
+		{
+			new Storage(input, output).convert(0, input.size());
+		}
+	}
+
+	/**
+	 * Parallelized conversion between images with primitive array storage.
+	 *
+	 * @param <I> element type of inputs
+	 * @param <O> element type of outputs
+	 */
+	@Plugin(type = Ops.Convert.ImageType.class,
+		priority = Priority.HIGH_PRIORITY + 1)
+	public static class NativeImgToNativeImgParallel<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractNativeImgConverter<I, O> implements Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return in().size() <= Integer.MAX_VALUE && super.conforms();
+		}
+
+		@Override
+		public void compute1(final IterableInterval<I> input,
+			final IterableInterval<O> output)
+		{
+			final Storage storage = new Storage(input, output);
+			ops().run(ChunkerOp.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					if (stepSize == 1) {
+						storage.convert(startIndex, startIndex + numSteps);
+						return;
+					}
+					for (long i = startIndex, n = 0; n < numSteps; i += stepSize, n++) {
+						storage.convert(i, i + 1);
+					}
+				}
+			}, input.size());
+		}
+	}
+
+	/**
+	 * Base class of the storage converters, which reads the parameters of the
+	 * {@link RealTypeConverter} into those of the {@link ConvertArrays}
+	 * kernels.
+	 */
+	abstract static class AbstractNativeImgConverter<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractUnaryComputerOp<IterableInterval<I>, IterableInterval<O>>
+		implements Ops.Convert.ImageType, Contingent
+	{
+
+		@Parameter
+		private RealTypeConverter<I, O> pixConvert;
+
+		/** Parameters of the {@link ConvertArrays} kernels. */
+		private double inMin, factor, outMin, lo, hi;
+
+		@Override
+		public void initialize() {
+			pixConvert.checkInput(in().firstElement().createVariable(), out()
+				.firstElement().createVariable());
+			pixConvert.checkInput(in());
+
+			inMin = 0;
+			factor = 1;
+			outMin = 0;
+			lo = Double.NEGATIVE_INFINITY;
+			hi = Double.POSITIVE_INFINITY;
+			if (pixConvert instanceof ScaleRealTypes) {
+				final ScaleRealTypes<I, O> scale = (ScaleRealTypes<I, O>) pixConvert;
+				inMin = scale.getInMin();
+				factor = scale.getFactor();
+				outMin = scale.getOutMin();
+			}
+			else if (pixConvert instanceof ClipRealTypes) {
+				final ClipRealTypes<I, O> clip = (ClipRealTypes<I, O>) pixConvert;
+				lo = clip.getOutMin();
+				hi = clip.getOutMax();
+			}
+		}
+
+		@Override
+		public boolean conforms() {
+			// NB: Subclasses of the supported converters may compute differently.
+			final Class<?> c = pixConvert.getClass();
+			if (c != CopyRealTypes.class && c != ClipRealTypes.class &&
+				c != ScaleRealTypes.class && c != NormalizeScaleRealTypes.class)
+			{
+				return false;
+			}
+			return out() != null && StorageArrays.compatible(in(), out()) &&
+				ConvertArrays.code(in().firstElement()) >= 0 && ConvertArrays.code(
+					out().firstElement()) >= 0;
+		}
+
+		/** The storage arrays of an input and output image. */
+		class Storage {
+
+			private final int inCode, outCode;
+
+			private final List<Object> ins, outs;
+
+			/** Index of the first element after each array. */
+			private final long[] ends;
+
+			Storage(final IterableInterval<I> input,
+				final IterableInterval<O> output)
+			{
+				inCode = ConvertArrays.code(input.firstElement());
+				outCode = ConvertArrays.code(output.firstElement());
+				ins = StorageArrays.arrays(input);
+				outs = StorageArrays.arrays(output);
+				ends = new long[ins.size()];
+				long end = 0;
+				for (int a = 0; a < ends.length; a++) {
+					end += Array.getLength(ins.get(a));
+					ends[a] = end;
+				}
+			}
+
+			/**
+			 * Converts the elements {@code from} (inclusive) to {@code to}
+			 * (exclusive), in iteration order.
+			 */
+			void convert(final long from, final long to) {
+				if (from >= to) return;
+				int a = 0;
+				while (ends[a] <= from) {
+					a++;
+				}
+				long pos = from;
+				while (pos < to) {
+					final long start = a == 0 ? 0 : ends[a - 1];
+					final long stop = Math.min(to, ends[a]);
+					ConvertArrays.convert(inCode, ins.get(a), outCode, outs.get(a),
+						(int) (pos - start), (int) (stop - start), inMin, factor, outMin,
+						lo, hi);
+					pos = stop;
+					a++;
+				}
+			}
+		}
+	}
+
+}
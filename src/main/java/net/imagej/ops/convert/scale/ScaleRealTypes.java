@@ -68,4 +68,21 @@ public class ScaleRealTypes<I extends RealType<I>, O extends RealType<O>>
 		// nothing to do here
 	}
 
+	// -- ScaleRealTypes methods --
+
+	/** Gets the value mapped to the minimum of the output type. */
+	public double getInMin() {
+		return inMin;
+	}
+
+	/** Gets the minimum of the output type. */
+	public double getOutMin() {
+		return outMin;
+	}
+
+	/** Gets the factor by which input values are divided. */
+	public double getFactor() {
+		return factor;
+	}
+
 }
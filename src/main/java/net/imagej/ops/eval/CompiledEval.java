@@ -0,0 +1,202 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.eval;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.eval.ExpressionCompiler.Syntax;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Intervals;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Evaluates an expression over whole images in a single pass.
+ * <p>
+ * Applies when at least one variable is an image of {@link DoubleType}s, all
+ * images have the same dimensions and iteration order, all other variables
+ * are {@link Number}s, and the {@link ExpressionCompiler} understands the
+ * expression in the {@link ExpressionCompiler.Syntax#EVAL} syntax. E.g.
+ * {@code a*b + sqrt(c)} then computes an {@link Img} of {@link DoubleType}s,
+ * instead of one temporary image per operator as with {@link OpEvaluator}.
+ * </p>
+ * <p>
+ * NB: Images of other types are left to {@link OpEvaluator}, whose ops
+ * compute in the type of their inputs, e.g. with integer division or
+ * clamping, which this op could not reproduce in double precision.
+ * </p>
+ * 
+ * @see DefaultEval
+ */
+@Plugin(type = Ops.Eval.class, priority = Priority.HIGH_PRIORITY)
+public class CompiledEval extends AbstractUnaryFunctionOp<String, Object>
+	implements Ops.Eval, Contingent
+{
+
+	@Parameter
+	private Map<String, Object> vars;
+
+	private List<String> names;
+	private List<IterableInterval<? extends RealType<?>>> images;
+	private Map<String, Number> constants;
+
+	@Override
+	public boolean conforms() {
+		if (!splitVars()) return false;
+		try {
+			ExpressionCompiler.compile(in(), names, constants, Syntax.EVAL);
+			return true;
+		}
+		catch (final IllegalArgumentException exc) {
+			return false;
+		}
+	}
+
+	@Override
+	public Object compute1(final String input) {
+		if (!splitVars()) {
+			throw new IllegalArgumentException(
+				"Variables must be compatible images and numbers");
+		}
+		final CompiledExpression expression = ExpressionCompiler.compile(input,
+			names, constants, Syntax.EVAL);
+		final IterableInterval<? extends RealType<?>> first = images.get(0);
+		if (expression.getPositionDimensions() > first.numDimensions()) {
+			throw new IllegalArgumentException("Expression uses p[" + (expression
+				.getPositionDimensions() - 1) + "], but images have only " + first
+					.numDimensions() + " dimensions");
+		}
+
+		final Img<DoubleType> output = ops().create().img(first, new DoubleType());
+		final boolean sameOrder = compatible(first, output);
+		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				final int n = images.size();
+				@SuppressWarnings("unchecked")
+				final Cursor<? extends RealType<?>>[] cursors = new Cursor[n];
+				for (int k = 0; k < n; k++) {
+					if (k == 0) cursors[k] = first.localizingCursor();
+					else cursors[k] = images.get(k).cursor();
+					setToStart(cursors[k], startIndex);
+				}
+				final Cursor<DoubleType> outCursor = sameOrder ? output.cursor()
+					: null;
+				final RandomAccess<DoubleType> outAccess = sameOrder ? null : output
+					.randomAccess();
+				if (sameOrder) setToStart(outCursor, startIndex);
+
+				final double[] values = new double[n];
+				final long[] pos = new long[first.numDimensions()];
+				for (int i = 0; i < numSteps; i++) {
+					if (i > 0) {
+						for (final Cursor<?> c : cursors) {
+							c.jumpFwd(stepSize);
+						}
+						if (sameOrder) outCursor.jumpFwd(stepSize);
+					}
+					for (int k = 0; k < n; k++) {
+						values[k] = cursors[k].get().getRealDouble();
+					}
+					cursors[0].localize(pos);
+					final DoubleType target;
+					if (sameOrder) target = outCursor.get();
+					else {
+						outAccess.setPosition(pos);
+						target = outAccess.get();
+					}
+					target.set(expression.evaluate(values, pos));
+				}
+			}
+		}, first.size());
+		return output;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Splits the variables into images and constants, checking that they
+	 * qualify for compiled evaluation.
+	 */
+	private boolean splitVars() {
+		if (vars == null) return false;
+		names = new ArrayList<>();
+		images = new ArrayList<>();
+		constants = new HashMap<>();
+		for (final Map.Entry<String, Object> entry : vars.entrySet()) {
+			final Object value = entry.getValue();
+			if (value instanceof Number) {
+				constants.put(entry.getKey(), (Number) value);
+			}
+			else if (value instanceof IterableInterval) {
+				final IterableInterval<?> image = (IterableInterval<?>) value;
+				if (image.size() == 0 || !(image
+					.firstElement() instanceof DoubleType)) return false;
+				if (!images.isEmpty() && !compatible(images.get(0), image)) {
+					return false;
+				}
+				@SuppressWarnings("unchecked")
+				final IterableInterval<? extends RealType<?>> realImage =
+					(IterableInterval<? extends RealType<?>>) image;
+				names.add(entry.getKey());
+				images.add(realImage);
+			}
+			else return false;
+		}
+		return !images.isEmpty();
+	}
+
+	private boolean compatible(final IterableInterval<?> a,
+		final IterableInterval<?> b)
+	{
+		return Intervals.equalDimensions(a, b) && a.iterationOrder().equals(b
+			.iterationOrder());
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.eval;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An expression compiled by the {@link ExpressionCompiler} into a tree of
+ * primitive functions, ready to be evaluated once per pixel.
+ * <p>
+ * Evaluation neither boxes values nor creates temporary objects, and a
+ * compiled expression holds no mutable state, so it can be evaluated by
+ * several threads at once.
+ * </p>
+ */
+public final class CompiledExpression {
+
+	/** A compiled node of the expression tree. */
+	@FunctionalInterface
+	public interface Node {
+
+		/**
+		 * Evaluates the node.
+		 * 
+		 * @param values The values of the expression's variables, in the order of
+		 *          {@link CompiledExpression#getVariables()}.
+		 * @param position The current position, accessed via {@code p[d]}.
+		 */
+		double evaluate(double[] values, long[] position);
+	}
+
+	private final String expression;
+	private final List<String> variables;
+	private final Node root;
+	private final int positionDimensions;
+
+	CompiledExpression(final String expression, final List<String> variables,
+		final Node root, final int positionDimensions)
+	{
+		this.expression = expression;
+		this.variables = Collections.unmodifiableList(variables);
+		this.root = root;
+		this.positionDimensions = positionDimensions;
+	}
+
+	/** Gets the source of the expression. */
+	public String getExpression() {
+		return expression;
+	}
+
+	/** Gets the names of the variables, in the order their values are passed. */
+	public List<String> getVariables() {
+		return variables;
+	}
+
+	/**
+	 * Gets the number of position dimensions the expression needs, i.e. one
+	 * more than the largest {@code d} in any {@code p[d]}, or 0 if the
+	 * expression does not depend on the position.
+	 */
+	public int getPositionDimensions() {
+		return positionDimensions;
+	}
+
+	/** Evaluates the expression for the given variable values and position. */
+	public double evaluate(final double[] values, final long[] position) {
+		return root.evaluate(values, position);
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+}
@@ -0,0 +1,512 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.eval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import net.imagej.ops.eval.CompiledExpression.Node;
+
+/**
+ * Compiles arithmetic expressions into {@link CompiledExpression}s, which
+ * evaluate the whole expression per pixel in a single call, instead of
+ * running one op (and creating one temporary image) per operator.
+ * <p>
+ * Each {@link Syntax} only accepts the constructs whose meaning in double
+ * precision is the same as in the evaluator it stands in for; anything else is
+ * rejected, so that the caller can fall back to that evaluator. Both accept
+ * number literals, named variables, parentheses and the operators
+ * {@code + - * / %}; see {@link Syntax} for the rest.
+ * </p>
+ * <p>
+ * All values are computed in double precision. Subexpressions which only
+ * involve constants are folded at compile time.
+ * </p>
+ */
+public final class ExpressionCompiler {
+
+	/** The syntaxes understood by the compiler. */
+	public enum Syntax {
+
+		/**
+		 * The syntax of {@link OpEvaluator}: {@code ^} is a power, and functions
+		 * are named after unary math ops, optionally prefixed with {@code math.},
+		 * e.g. {@code sqrt(x)} or {@code math.exp(x)}. Operations between integer
+		 * constants are rejected, since the ops compute them in integer
+		 * arithmetic.
+		 */
+		EVAL,
+
+		/**
+		 * The JavaScript syntax of the equation op: functions and constants of
+		 * the JavaScript {@code Math} object, e.g. {@code Math.cos(x)} or
+		 * {@code Math.PI}, and position coordinates {@code p[0]}, {@code p[1]},
+		 * .... {@code ^} is rejected, since it is a bitwise XOR in JavaScript.
+		 */
+		JAVASCRIPT
+	}
+
+	private static final Map<String, DoubleUnaryOperator> EVAL_UNARY =
+		new HashMap<>();
+	private static final Map<String, DoubleBinaryOperator> EVAL_BINARY =
+		new HashMap<>();
+	private static final Map<String, DoubleUnaryOperator> JS_UNARY =
+		new HashMap<>();
+	private static final Map<String, DoubleBinaryOperator> JS_BINARY =
+		new HashMap<>();
+	private static final Map<String, Double> JS_CONSTANTS = new HashMap<>();
+
+	static {
+		// NB: As computed by the ops in UnaryRealTypeMath.
+		EVAL_UNARY.put("abs", Math::abs);
+		EVAL_UNARY.put("arccos", Math::acos);
+		EVAL_UNARY.put("arcsin", Math::asin);
+		EVAL_UNARY.put("arctan", Math::atan);
+		EVAL_UNARY.put("ceil", Math::ceil);
+		EVAL_UNARY.put("cos", Math::cos);
+		EVAL_UNARY.put("cosh", Math::cosh);
+		EVAL_UNARY.put("cubeRoot", Math::cbrt);
+		EVAL_UNARY.put("exp", Math::exp);
+		EVAL_UNARY.put("expMinusOne", x -> Math.exp(x) - 1);
+		EVAL_UNARY.put("floor", Math::floor);
+		EVAL_UNARY.put("log", Math::log);
+		EVAL_UNARY.put("log10", Math::log10);
+		EVAL_UNARY.put("log2", x -> Math.log(x) / Math.log(2));
+		EVAL_UNARY.put("logOnePlusX", Math::log1p);
+		EVAL_UNARY.put("nearestInt", Math::rint);
+		EVAL_UNARY.put("negate", x -> -x);
+		EVAL_UNARY.put("round", x -> (double) Math.round(x));
+		EVAL_UNARY.put("signum", Math::signum);
+		EVAL_UNARY.put("sin", Math::sin);
+		EVAL_UNARY.put("sinh", Math::sinh);
+		EVAL_UNARY.put("sqr", x -> x * x);
+		EVAL_UNARY.put("sqrt", Math::sqrt);
+		EVAL_UNARY.put("tan", Math::tan);
+		EVAL_UNARY.put("tanh", Math::tanh);
+		EVAL_UNARY.put("ulp", Math::ulp);
+
+		EVAL_BINARY.put("pow", Math::pow);
+		EVAL_BINARY.put("power", Math::pow);
+
+		// NB: The functions of the JavaScript (ECMAScript 5) Math object.
+		JS_UNARY.put("abs", Math::abs);
+		JS_UNARY.put("acos", Math::acos);
+		JS_UNARY.put("asin", Math::asin);
+		JS_UNARY.put("atan", Math::atan);
+		JS_UNARY.put("ceil", Math::ceil);
+		JS_UNARY.put("cos", Math::cos);
+		JS_UNARY.put("exp", Math::exp);
+		JS_UNARY.put("floor", Math::floor);
+		JS_UNARY.put("log", Math::log);
+		JS_UNARY.put("round", x -> Math.floor(x + 0.5));
+		JS_UNARY.put("sin", Math::sin);
+		JS_UNARY.put("sqrt", Math::sqrt);
+		JS_UNARY.put("tan", Math::tan);
+
+		JS_BINARY.put("atan2", Math::atan2);
+		JS_BINARY.put("max", Math::max);
+		JS_BINARY.put("min", Math::min);
+		JS_BINARY.put("pow", Math::pow);
+
+		JS_CONSTANTS.put("E", Math.E);
+		JS_CONSTANTS.put("LN2", Math.log(2));
+		JS_CONSTANTS.put("LN10", Math.log(10));
+		JS_CONSTANTS.put("PI", Math.PI);
+		JS_CONSTANTS.put("SQRT2", Math.sqrt(2));
+	}
+
+	private ExpressionCompiler() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/** Compiles an expression without variables. */
+	public static CompiledExpression compile(final String expression,
+		final Syntax syntax)
+	{
+		return compile(expression, Collections.<String> emptyList(), Collections
+			.<String, Number> emptyMap(), syntax);
+	}
+
+	/**
+	 * Compiles an expression.
+	 * 
+	 * @param expression The expression to compile.
+	 * @param variables The names of the variables whose values are passed to
+	 *          {@link CompiledExpression#evaluate}, in that order.
+	 * @param constants Named values which are fixed at compile time.
+	 * @param syntax The syntax of the expression.
+	 * @throws IllegalArgumentException if the expression is malformed, or uses
+	 *           an unknown name, function or operator.
+	 */
+	public static CompiledExpression compile(final String expression,
+		final List<String> variables, final Map<String, ? extends Number> constants,
+		final Syntax syntax)
+	{
+		final Parser parser = new Parser(expression, variables, constants, syntax);
+		final Node root = parser.parse();
+		return new CompiledExpression(expression, new ArrayList<>(variables), root,
+			parser.positionDimensions);
+	}
+
+	// -- Helper classes --
+
+	/** A node with a value which is known at compile time. */
+	private static final class Constant implements Node {
+
+		private final double value;
+
+		/** Whether the value is an integer in the {@link Syntax#EVAL} syntax. */
+		private final boolean integer;
+
+		private Constant(final double value) {
+			this(value, false);
+		}
+
+		private Constant(final double value, final boolean integer) {
+			this.value = value;
+			this.integer = integer;
+		}
+
+		@Override
+		public double evaluate(final double[] values, final long[] position) {
+			return value;
+		}
+	}
+
+	/** A recursive descent parser emitting {@link Node}s. */
+	private static final class Parser {
+
+		private final String s;
+		private final List<String> variables;
+		private final Map<String, ? extends Number> constants;
+		private final Syntax syntax;
+		private int pos;
+		private int positionDimensions;
+
+		private Parser(final String s, final List<String> variables,
+			final Map<String, ? extends Number> constants, final Syntax syntax)
+		{
+			this.s = s;
+			this.variables = variables;
+			this.constants = constants;
+			this.syntax = syntax;
+		}
+
+		private Node parse() {
+			final Node node = parseAdditive();
+			skipWhitespace();
+			if (pos < s.length()) throw error("Unexpected '" + s.charAt(pos) + "'");
+			return node;
+		}
+
+		private Node parseAdditive() {
+			Node left = parseMultiplicative();
+			while (true) {
+				if (match("+")) left = add(left, parseMultiplicative());
+				else if (match("-")) left = subtract(left, parseMultiplicative());
+				else return left;
+			}
+		}
+
+		private Node parseMultiplicative() {
+			Node left = parseUnary();
+			while (true) {
+				if (match("*")) left = multiply(left, parseUnary());
+				else if (match("/")) left = divide(left, parseUnary());
+				else if (match("%")) {
+					left = binary(left, parseUnary(), (a, b) -> a % b);
+				}
+				else return left;
+			}
+		}
+
+		private Node parseUnary() {
+			if (match("-")) {
+				final Node a = parseUnary();
+				if (a instanceof Constant) {
+					return new Constant(-value(a), ((Constant) a).integer);
+				}
+				return unary(a, x -> -x);
+			}
+			if (match("+")) return parseUnary();
+			return parsePower();
+		}
+
+		private Node parsePower() {
+			final Node base = parsePrimary();
+			if (!peek('^')) return base;
+			if (syntax != Syntax.EVAL) {
+				throw error("Unsupported operator '^'");
+			}
+			pos++;
+			// NB: Power is right associative, and binds tighter than a unary
+			// minus on its left: -2^2 == -4, but 2^-1 == 0.5.
+			return binary(base, parseUnary(), Math::pow);
+		}
+
+		private Node parsePrimary() {
+			skipWhitespace();
+			if (match("(")) {
+				final Node node = parseAdditive();
+				expect(")");
+				return node;
+			}
+			if (pos >= s.length()) throw error("Unexpected end of expression");
+			final char c = s.charAt(pos);
+			if (Character.isDigit(c) || c == '.') return parseNumber();
+			if (Character.isJavaIdentifierStart(c)) return parseName();
+			throw error("Unexpected '" + c + "'");
+		}
+
+		private Node parseNumber() {
+			final int start = pos;
+			while (pos < s.length() && (Character.isDigit(s.charAt(pos)) || s
+				.charAt(pos) == '.'))
+			{
+				pos++;
+			}
+			if (pos < s.length() && (s.charAt(pos) == 'e' || s.charAt(pos) == 'E')) {
+				pos++;
+				if (pos < s.length() && (s.charAt(pos) == '+' || s.charAt(pos) == '-'))
+				{
+					pos++;
+				}
+				while (pos < s.length() && Character.isDigit(s.charAt(pos))) {
+					pos++;
+				}
+			}
+			final String number = s.substring(start, pos);
+			try {
+				// NB: The op evaluator parses literals like 7 as integers.
+				return new Constant(Double.parseDouble(number), number.matches(
+					"[0-9]+"));
+			}
+			catch (final NumberFormatException exc) {
+				throw error("Invalid number '" + number + "'");
+			}
+		}
+
+		private Node parseName() {
+			final int start = pos;
+			while (pos < s.length() && (Character.isJavaIdentifierPart(s.charAt(
+				pos)) || s.charAt(pos) == '.' && pos + 1 < s.length() && Character
+					.isJavaIdentifierStart(s.charAt(pos + 1))))
+			{
+				pos++;
+			}
+			final String name = s.substring(start, pos);
+			if (match("(")) return parseFunction(name);
+			if (match("[")) return parsePosition(name);
+
+			final int index = variables.indexOf(name);
+			if (index >= 0) return (values, position) -> values[index];
+			if (constants.containsKey(name)) {
+				final Number value = constants.get(name);
+				return new Constant(value.doubleValue(), !(value instanceof Double ||
+					value instanceof Float));
+			}
+			if (syntax == Syntax.JAVASCRIPT && name.startsWith("Math.") &&
+				JS_CONSTANTS.containsKey(name.substring(5)))
+			{
+				return new Constant(JS_CONSTANTS.get(name.substring(5)));
+			}
+			throw error("Unknown variable '" + name + "'");
+		}
+
+		private Node parseFunction(final String name) {
+			final List<Node> args = new ArrayList<>();
+			if (!match(")")) {
+				do {
+					args.add(parseAdditive());
+				}
+				while (match(","));
+				expect(")");
+			}
+
+			final Map<String, DoubleUnaryOperator> unaryFunctions;
+			final Map<String, DoubleBinaryOperator> binaryFunctions;
+			final String function;
+			if (syntax == Syntax.EVAL) {
+				unaryFunctions = EVAL_UNARY;
+				binaryFunctions = EVAL_BINARY;
+				function = name.startsWith("math.") ? name.substring(5) : name;
+			}
+			else {
+				unaryFunctions = JS_UNARY;
+				binaryFunctions = JS_BINARY;
+				// NB: JavaScript has no global math functions.
+				function = name.startsWith("Math.") ? name.substring(5) : "";
+			}
+			if (args.size() == 1 && unaryFunctions.containsKey(function)) {
+				return unary(args.get(0), unaryFunctions.get(function));
+			}
+			if (args.size() == 2 && binaryFunctions.containsKey(function)) {
+				return binary(args.get(0), args.get(1), binaryFunctions.get(
+					function));
+			}
+			throw error("Unknown function '" + name + "' with " + args.size() +
+				" arguments");
+		}
+
+		private Node parsePosition(final String name) {
+			if (syntax != Syntax.JAVASCRIPT || !name.equals("p") || variables
+				.contains(name))
+			{
+				throw error("Cannot index '" + name + "'");
+			}
+			final Node index = parseAdditive();
+			expect("]");
+			if (!(index instanceof Constant)) {
+				throw error("Position index must be constant");
+			}
+			final double value = ((Constant) index).value;
+			final int d = (int) value;
+			if (d != value || d < 0) throw error("Invalid position index " + value);
+			positionDimensions = Math.max(positionDimensions, d + 1);
+			return (values, position) -> position[d];
+		}
+
+		// -- Node factories --
+
+		private Node add(final Node a, final Node b) {
+			checkNotInteger(a, b);
+			if (a instanceof Constant && b instanceof Constant) {
+				return new Constant(value(a) + value(b));
+			}
+			return (values, position) -> a.evaluate(values, position) + b.evaluate(
+				values, position);
+		}
+
+		private Node subtract(final Node a, final Node b) {
+			checkNotInteger(a, b);
+			if (a instanceof Constant && b instanceof Constant) {
+				return new Constant(value(a) - value(b));
+			}
+			return (values, position) -> a.evaluate(values, position) - b.evaluate(
+				values, position);
+		}
+
+		private Node multiply(final Node a, final Node b) {
+			checkNotInteger(a, b);
+			if (a instanceof Constant && b instanceof Constant) {
+				return new Constant(value(a) * value(b));
+			}
+			return (values, position) -> a.evaluate(values, position) * b.evaluate(
+				values, position);
+		}
+
+		private Node divide(final Node a, final Node b) {
+			checkNotInteger(a, b);
+			if (a instanceof Constant && b instanceof Constant) {
+				return new Constant(value(a) / value(b));
+			}
+			return (values, position) -> a.evaluate(values, position) / b.evaluate(
+				values, position);
+		}
+
+		private Node unary(final Node a, final DoubleUnaryOperator f) {
+			checkNotInteger(a, a);
+			if (a instanceof Constant) return new Constant(f.applyAsDouble(value(a)));
+			return (values, position) -> f.applyAsDouble(a.evaluate(values,
+				position));
+		}
+
+		private Node binary(final Node a, final Node b,
+			final DoubleBinaryOperator f)
+		{
+			checkNotInteger(a, b);
+			if (a instanceof Constant && b instanceof Constant) {
+				return new Constant(f.applyAsDouble(value(a), value(b)));
+			}
+			return (values, position) -> f.applyAsDouble(a.evaluate(values,
+				position), b.evaluate(values, position));
+		}
+
+		// -- Helper methods --
+
+		private double value(final Node node) {
+			return ((Constant) node).value;
+		}
+
+		/**
+		 * Rejects operations on integer constants only, which the ops of the
+		 * {@link Syntax#EVAL} syntax compute in integer arithmetic, e.g.
+		 * {@code 7 / 2 == 3}.
+		 */
+		private void checkNotInteger(final Node a, final Node b) {
+			if (isInteger(a) && isInteger(b)) {
+				throw error("Unsupported integer arithmetic");
+			}
+		}
+
+		private boolean isInteger(final Node node) {
+			return syntax == Syntax.EVAL && node instanceof Constant &&
+				((Constant) node).integer;
+		}
+
+		private void skipWhitespace() {
+			while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private boolean peek(final char c) {
+			skipWhitespace();
+			return pos < s.length() && s.charAt(pos) == c;
+		}
+
+		private boolean peek(final String token) {
+			skipWhitespace();
+			return s.startsWith(token, pos);
+		}
+
+		private boolean match(final String token) {
+			if (!peek(token)) return false;
+			pos += token.length();
+			return true;
+		}
+
+		private void expect(final String token) {
+			if (!match(token)) throw error("Expected '" + token + "'");
+		}
+
+		private IllegalArgumentException error(final String message) {
+			return new IllegalArgumentException(message + " at position " + pos +
+				" of expression: " + s);
+		}
+	}
+
+}
@@ -43,6 +43,7 @@ import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.neighborhood.Shape;
 import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
 import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.util.Util;
 
 public abstract class AbstractCenterAwareNeighborhoodBasedFilter<I, O> extends
 	AbstractUnaryComputerOp<RandomAccessibleInterval<I>, IterableInterval<O>>
@@ -62,6 +63,11 @@ public abstract class AbstractCenterAwareNeighborhoodBasedFilter<I, O> extends
 	@Override
 	public void initialize() {
 		filterOp = unaryComputer(out().firstElement());
+		// NB: Initialize the filter before it is mapped, so that it can resolve
+		// its ops once instead of on the first call from inside the map.
+		filterOp.setInput1(shape.neighborhoodsSafe(in()).firstElement());
+		filterOp.setInput2(Util.getTypeFromInterval(in()));
+		filterOp.initialize();
 		map = Computers.unary(ops(), Map.class, out(), in(), shape, filterOp);
 	}
 
@@ -85,7 +91,9 @@ public abstract class AbstractCenterAwareNeighborhoodBasedFilter<I, O> extends
 	/**
 	 * @param out First element from the output {@link IterableInterval}. May be
 	 *          used for determining the class.
-	 * @return the Computer to map to all neighborhoods of input to output.
+	 * @return the Computer to map to all neighborhoods of input to output. It is
+	 *         initialized with the first neighborhood and center of the input
+	 *         before being mapped.
 	 */
 	protected abstract CenterAwareComputerOp<I, O> unaryComputer(final O out);
 
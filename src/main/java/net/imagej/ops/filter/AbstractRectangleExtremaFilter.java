@@ -0,0 +1,73 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter;
+
+import java.util.function.Supplier;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.view.Views;
+
+/**
+ * Abstract base class for max and min filters over {@link RectangleShape}
+ * neighborhoods, which are computed from {@link RectangleExtrema}.
+ *
+ * @param <I> input type
+ * @param <O> output type
+ */
+public abstract class AbstractRectangleExtremaFilter<I extends RealType<I>, O extends RealType<O>>
+	extends AbstractRectangleFilter<I, O>
+{
+
+	@Override
+	public boolean conforms() {
+		return super.conforms() && !getShape().isSkippingCenter() &&
+			RectangleExtrema.fits(in(), getShape().getSpan());
+	}
+
+	@Override
+	protected Supplier<PixelFilter<I, O>> prepare(
+		final RandomAccessibleInterval<I> input)
+	{
+		final RectangleExtrema extrema = new RectangleExtrema(Views.extend(input,
+			getOutOfBoundsFactory()), input, getShape().getSpan(), isMax());
+		final PixelFilter<I, O> filter = (offset, center, output) -> output
+			.setReal(extrema.get(extrema.index(offset)));
+		return () -> filter;
+	}
+
+	/**
+	 * @return true to compute the maximum, false for the minimum
+	 */
+	protected abstract boolean isMax();
+
+}
@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter;
+
+import java.util.function.Supplier;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+
+import org.scijava.plugin.Parameter;
+
+/**
+ * Abstract base class for filters over {@link RectangleShape} neighborhoods
+ * which compute each output pixel from data prepared once for the whole input,
+ * such as {@link RectangleSums} or {@link RectangleExtrema}, instead of
+ * iterating each neighborhood.
+ * <p>
+ * After {@link #prepare}, the output pixels are computed in parallel chunks.
+ * </p>
+ *
+ * @param <I> input type
+ * @param <O> output type
+ */
+public abstract class AbstractRectangleFilter<I extends RealType<I>, O>
+	extends
+	AbstractUnaryComputerOp<RandomAccessibleInterval<I>, IterableInterval<O>>
+	implements Contingent
+{
+
+	@Parameter
+	private Shape shape;
+
+	@Parameter(required = false)
+	private OutOfBoundsFactory<I, RandomAccessibleInterval<I>> outOfBoundsFactory =
+		new OutOfBoundsBorderFactory<>();
+
+	@Override
+	public void compute1(final RandomAccessibleInterval<I> input,
+		final IterableInterval<O> output)
+	{
+		final Supplier<PixelFilter<I, O>> filters = prepare(input);
+
+		ops().run(ChunkerOp.class, new CursorBasedChunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				final PixelFilter<I, O> filter = filters.get();
+				final int n = input.numDimensions();
+				final long[] offset = new long[n];
+				final RandomAccess<I> center = input.randomAccess();
+				final Cursor<O> cursor = output.localizingCursor();
+				setToStart(cursor, startIndex);
+				for (int i = 0; i < numSteps; i++) {
+					if (i > 0) cursor.jumpFwd(stepSize);
+					for (int d = 0; d < n; d++) {
+						offset[d] = cursor.getLongPosition(d) - output.min(d);
+						center.setPosition(input.min(d) + offset[d], d);
+					}
+					filter.compute(offset, center, cursor.get());
+				}
+			}
+		}, output.size());
+	}
+
+	@Override
+	public boolean conforms() {
+		return shape instanceof RectangleShape && (out() == null || Intervals
+			.equalDimensions(in(), out()));
+	}
+
+	/**
+	 * Get the shape (structuring element) used by this filter.
+	 *
+	 * @return the shape
+	 */
+	public RectangleShape getShape() {
+		return (RectangleShape) shape;
+	}
+
+	/**
+	 * Get the out of bounds strategy used by this filter.
+	 *
+	 * @return the out of bounds factory
+	 */
+	public OutOfBoundsFactory<I, RandomAccessibleInterval<I>>
+		getOutOfBoundsFactory()
+	{
+		return outOfBoundsFactory;
+	}
+
+	/**
+	 * Prepares the filter for the given input, e.g. by computing data about all
+	 * its neighborhoods at once.
+	 *
+	 * @param input the input image
+	 * @return the supplier of the computations of output pixels. It is called
+	 *         once for each chunk of pixels; since the chunks are computed in
+	 *         parallel, scratch state must not be shared between the supplied
+	 *         filters.
+	 */
+	protected abstract Supplier<PixelFilter<I, O>> prepare(
+		RandomAccessibleInterval<I> input);
+
+	// -- Helper classes --
+
+	/** Computes the value of one output pixel. */
+	protected interface PixelFilter<I, O> {
+
+		/**
+		 * Computes the value of one output pixel.
+		 *
+		 * @param offset the position of the pixel relative to the minimum of the
+		 *          input
+		 * @param center access to the input, positioned at the neighborhood
+		 *          center
+		 * @param output the output pixel
+		 */
+		void compute(long[] offset, RandomAccess<I> center, O output);
+	}
+
+}
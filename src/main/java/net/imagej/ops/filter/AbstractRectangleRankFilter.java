@@ -0,0 +1,443 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Abstract base class for rank filters over {@link RectangleShape}
+ * neighborhoods, which update a window of values as it slides along the first
+ * dimension instead of collecting each neighborhood anew.
+ * <p>
+ * The extended input is copied once into a flat array, which all chunks of
+ * output pixels share; each chunk slides its own window over it.
+ * </p>
+ * <p>
+ * Integer types with at most 2<sup>16</sup> values use a histogram of the
+ * window (Huang et al.). The rank is found by moving from the bin of the
+ * previous result, so only the entering and leaving values are touched. All
+ * other types keep the window sorted and merge the entering and leaving
+ * values in one linear pass.
+ * </p>
+ * <p>
+ * The window slides whenever a chunk steps along the first dimension, which
+ * is the case for flat iteration orders; any other step refills it.
+ * </p>
+ *
+ * @param <I> input type
+ * @param <O> output type
+ */
+public abstract class AbstractRectangleRankFilter<I extends RealType<I>, O extends RealType<O>>
+	extends AbstractRectangleFilter<I, O>
+{
+
+	/** Largest number of values of an integer type to use a histogram for. */
+	private static final long MAX_BINS = 1 << 16;
+
+	@Override
+	public boolean conforms() {
+		if (!super.conforms()) return false;
+		final RectangleShape rect = getShape();
+		// NB: Without its center, a window of span zero is empty.
+		return (rect.getSpan() > 0 || !rect.isSkippingCenter()) && fits(in(), rect);
+	}
+
+	@Override
+	protected Supplier<PixelFilter<I, O>> prepare(
+		final RandomAccessibleInterval<I> input)
+	{
+		final RectangleShape rect = getShape();
+		final int span = rect.getSpan();
+		final int n = input.numDimensions();
+		final Interval extended = Intervals.expand(input, span);
+		final int[] strides = new int[n];
+		int size = 1;
+		for (int d = 0; d < n; d++) {
+			strides[d] = size;
+			size *= (int) extended.dimension(d);
+		}
+		final int[] offsets = slabOffsets(strides, 2 * span + 1);
+		final int count = offsets.length * (2 * span + 1) - (rect
+			.isSkippingCenter() ? 1 : 0);
+		final int rank = Math.min(Math.max((int) (count * quantile()), 0), count -
+			1);
+		final int centerOffset = rect.isSkippingCenter() ? span * sum(strides) : -1;
+
+		final Cursor<I> in = Views.flatIterable(Views.interval(Views.extend(input,
+			getOutOfBoundsFactory()), extended)).cursor();
+		final I type = Util.getTypeFromInterval(input);
+		final Supplier<Window> windows;
+		if (usesHistogram(type)) {
+			final double min = type.getMinValue();
+			final int bins = (int) (type.getMaxValue() - min) + 1;
+			final int[] values = new int[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = (int) (in.next().getRealDouble() - min);
+			}
+			windows = () -> new HistogramWindow(values, bins, min, offsets, 2 *
+				span + 1);
+		}
+		else {
+			final double[] values = new double[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = in.next().getRealDouble();
+			}
+			windows = () -> new SortedWindow(values, offsets, 2 * span + 1);
+		}
+		return () -> new RankFilter<>(windows.get(), strides, span, rank,
+			centerOffset);
+	}
+
+	/**
+	 * Gets the quantile of the neighborhood values to compute, in [0, 1].
+	 */
+	protected abstract double quantile();
+
+	// -- Helper methods --
+
+	private static boolean usesHistogram(final RealType<?> type) {
+		return type instanceof IntegerType && type.getMaxValue() - type
+			.getMinValue() < MAX_BINS;
+	}
+
+	private static boolean fits(final Interval input, final RectangleShape shape) {
+		long size = 1;
+		long window = 1;
+		for (int d = 0; d < input.numDimensions(); d++) {
+			size *= input.dimension(d) + 2 * shape.getSpan();
+			window *= 2 * shape.getSpan() + 1;
+			if (size > Integer.MAX_VALUE || window > Integer.MAX_VALUE) return false;
+		}
+		return true;
+	}
+
+	private static int sum(final int[] values) {
+		int sum = 0;
+		for (final int v : values) {
+			sum += v;
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the offsets of the values in one column of a window, i.e. in the
+	 * window with a width of one along the first dimension.
+	 */
+	private static int[] slabOffsets(final int[] strides, final int width) {
+		int[] offsets = { 0 };
+		for (int d = 1; d < strides.length; d++) {
+			final int[] next = new int[offsets.length * width];
+			for (int k = 0; k < width; k++) {
+				for (int i = 0; i < offsets.length; i++) {
+					next[k * offsets.length + i] = offsets[i] + k * strides[d];
+				}
+			}
+			offsets = next;
+		}
+		return offsets;
+	}
+
+	// -- Helper classes --
+
+	/**
+	 * Computes the output pixels of one chunk, sliding its window whenever the
+	 * next pixel follows the previous one along the first dimension.
+	 */
+	private static class RankFilter<I, O extends RealType<O>> implements
+		PixelFilter<I, O>
+	{
+
+		private final Window window;
+
+		private final int[] strides;
+
+		private final int span;
+
+		private final int rank;
+
+		private final int centerOffset;
+
+		private final long[] last;
+
+		private boolean filled;
+
+		private int lastBase;
+
+		public RankFilter(final Window window, final int[] strides,
+			final int span, final int rank, final int centerOffset)
+		{
+			this.window = window;
+			this.strides = strides;
+			this.span = span;
+			this.rank = rank;
+			this.centerOffset = centerOffset;
+			last = new long[strides.length];
+		}
+
+		@Override
+		public void compute(final long[] offset, final RandomAccess<I> center,
+			final O output)
+		{
+			int base = 0;
+			boolean slides = filled;
+			for (int d = 0; d < strides.length; d++) {
+				base += offset[d] * strides[d];
+				slides &= offset[d] == (d == 0 ? last[d] + 1 : last[d]);
+			}
+			if (slides) {
+				window.slide(lastBase, base + 2 * span);
+			}
+			else {
+				if (filled) window.clear(lastBase);
+				window.fill(base);
+				filled = true;
+			}
+			System.arraycopy(offset, 0, last, 0, last.length);
+			lastBase = base;
+
+			output.setReal(window.get(rank, centerOffset < 0 ? -1 : base +
+				centerOffset));
+		}
+	}
+
+	/** The values of one window over the extended input. */
+	private abstract static class Window {
+
+		protected final int[] offsets;
+
+		protected final int width;
+
+		public Window(final int[] offsets, final int width) {
+			this.offsets = offsets;
+			this.width = width;
+		}
+
+		/** Adds the window starting at the given index. */
+		public abstract void fill(int base);
+
+		/** Removes the window starting at the given index. */
+		public abstract void clear(int base);
+
+		/**
+		 * Moves the window by one along the first dimension, removing the column
+		 * starting at {@code leaving} and adding the one at {@code entering}.
+		 */
+		public abstract void slide(int leaving, int entering);
+
+		/**
+		 * Gets the value of the given rank, without the value at index
+		 * {@code center} if it is not negative.
+		 */
+		public abstract double get(int rank, int center);
+
+	}
+
+	private static class HistogramWindow extends Window {
+
+		private final int[] values;
+
+		private final int[] histogram;
+
+		private final double min;
+
+		/** Current bin of the rank search. */
+		private int bin;
+
+		/** Number of values in the window below {@link #bin}. */
+		private int below;
+
+		public HistogramWindow(final int[] values, final int bins,
+			final double min, final int[] offsets, final int width)
+		{
+			super(offsets, width);
+			this.values = values;
+			this.min = min;
+			histogram = new int[bins];
+		}
+
+		@Override
+		public void fill(final int base) {
+			for (int k = 0; k < width; k++) {
+				for (final int o : offsets) {
+					add(values[base + k + o]);
+				}
+			}
+		}
+
+		@Override
+		public void clear(final int base) {
+			for (int k = 0; k < width; k++) {
+				for (final int o : offsets) {
+					remove(values[base + k + o]);
+				}
+			}
+		}
+
+		@Override
+		public void slide(final int leaving, final int entering) {
+			for (final int o : offsets) {
+				remove(values[leaving + o]);
+				add(values[entering + o]);
+			}
+		}
+
+		@Override
+		public double get(final int rank, final int center) {
+			if (center >= 0) remove(values[center]);
+			while (below > rank) {
+				bin--;
+				below -= histogram[bin];
+			}
+			while (below + histogram[bin] <= rank) {
+				below += histogram[bin];
+				bin++;
+			}
+			if (center >= 0) add(values[center]);
+			return bin + min;
+		}
+
+		private void add(final int value) {
+			histogram[value]++;
+			if (value < bin) below++;
+		}
+
+		private void remove(final int value) {
+			histogram[value]--;
+			if (value < bin) below--;
+		}
+
+	}
+
+	private static class SortedWindow extends Window {
+
+		private final double[] values;
+
+		private double[] sorted;
+
+		private double[] merged;
+
+		private final double[] leavingColumn;
+
+		private final double[] enteringColumn;
+
+		public SortedWindow(final double[] values, final int[] offsets,
+			final int width)
+		{
+			super(offsets, width);
+			this.values = values;
+			sorted = new double[offsets.length * width];
+			merged = new double[sorted.length];
+			leavingColumn = new double[offsets.length];
+			enteringColumn = new double[offsets.length];
+		}
+
+		@Override
+		public void fill(final int base) {
+			int i = 0;
+			for (int k = 0; k < width; k++) {
+				for (final int o : offsets) {
+					sorted[i++] = values[base + k + o];
+				}
+			}
+			Arrays.sort(sorted);
+		}
+
+		@Override
+		public void clear(final int base) {
+			// NB: The next fill overwrites the whole window.
+		}
+
+		@Override
+		public void slide(final int leaving, final int entering) {
+			for (int i = 0; i < offsets.length; i++) {
+				leavingColumn[i] = values[leaving + offsets[i]];
+				enteringColumn[i] = values[entering + offsets[i]];
+			}
+			Arrays.sort(leavingColumn);
+			Arrays.sort(enteringColumn);
+
+			// NB: Drop the leaving values while merging in the entering ones.
+			int l = 0;
+			int e = 0;
+			int m = 0;
+			for (final double v : sorted) {
+				if (l < leavingColumn.length && Double.compare(v,
+					leavingColumn[l]) == 0)
+				{
+					l++;
+					continue;
+				}
+				while (e < enteringColumn.length && Double.compare(enteringColumn[e],
+					v) < 0)
+				{
+					merged[m++] = enteringColumn[e++];
+				}
+				merged[m++] = v;
+			}
+			while (e < enteringColumn.length) {
+				merged[m++] = enteringColumn[e++];
+			}
+
+			final double[] tmp = sorted;
+			sorted = merged;
+			merged = tmp;
+		}
+
+		@Override
+		public double get(final int rank, final int center) {
+			if (center < 0) return sorted[rank];
+			// NB: Skip the first occurrence of the center value.
+			final double c = values[center];
+			int lo = 0;
+			int hi = sorted.length;
+			while (lo < hi) {
+				final int mid = (lo + hi) >>> 1;
+				if (Double.compare(sorted[mid], c) < 0) lo = mid + 1;
+				else hi = mid;
+			}
+			return rank < lo ? sorted[rank] : sorted[rank + 1];
+		}
+
+	}
+
+}
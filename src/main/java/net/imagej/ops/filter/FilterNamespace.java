@@ -925,26 +925,28 @@ public class FilterNamespace extends AbstractNamespace {
 	// -- mean filter --
 
 	/** Executes the "mean" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.mean.DefaultMeanFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.mean.DefaultMeanFilter.class,
+		net.imagej.ops.filter.mean.RectangleMeanFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> mean(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.mean.DefaultMeanFilter.class, out, in, shape);
+			net.imagej.ops.Ops.Filter.Mean.class, out, in, shape);
 		return result;
 	}
 
 	/** Executes the "mean" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.mean.DefaultMeanFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.mean.DefaultMeanFilter.class,
+		net.imagej.ops.filter.mean.RectangleMeanFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> mean(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.mean.DefaultMeanFilter.class, out, in, shape,
+			net.imagej.ops.Ops.Filter.Mean.class, out, in, shape,
 			outOfBoundsFactory);
 		return result;
 	}
@@ -952,76 +954,82 @@ public class FilterNamespace extends AbstractNamespace {
 	// -- non-linear filters --
 
 	/** Executes the "max" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.max.DefaultMaxFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.max.DefaultMaxFilter.class,
+		net.imagej.ops.filter.max.RectangleMaxFilter.class })
 	public <T extends RealType<T>, V extends RealType<V>> IterableInterval<T> max(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.max.DefaultMaxFilter.class, out, in, shape);
+			net.imagej.ops.Ops.Filter.Max.class, out, in, shape);
 		return result;
 	}
 
 	/** Executes the "max" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.max.DefaultMaxFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.max.DefaultMaxFilter.class,
+		net.imagej.ops.filter.max.RectangleMaxFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> max(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.max.DefaultMaxFilter.class, out, in, shape,
+			net.imagej.ops.Ops.Filter.Max.class, out, in, shape,
 			outOfBoundsFactory);
 		return result;
 	}
 
 	/** Executes the "median" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.median.DefaultMedianFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.median.DefaultMedianFilter.class,
+		net.imagej.ops.filter.median.RectangleMedianFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> median(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.median.DefaultMedianFilter.class, out, in, shape);
+			net.imagej.ops.Ops.Filter.Median.class, out, in, shape);
 		return result;
 	}
 
 	/** Executes the "median" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.median.DefaultMedianFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.median.DefaultMedianFilter.class,
+		net.imagej.ops.filter.median.RectangleMedianFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> median(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.median.DefaultMedianFilter.class, out, in, shape,
+			net.imagej.ops.Ops.Filter.Median.class, out, in, shape,
 			outOfBoundsFactory);
 		return result;
 	}
 
 	/** Executes the "min" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.min.DefaultMinFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.min.DefaultMinFilter.class,
+		net.imagej.ops.filter.min.RectangleMinFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> min(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.min.DefaultMinFilter.class, out, in, shape);
+			net.imagej.ops.Ops.Filter.Min.class, out, in, shape);
 		return result;
 	}
 
 	/** Executes the "min" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.min.DefaultMinFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.min.DefaultMinFilter.class,
+		net.imagej.ops.filter.min.RectangleMinFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> min(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.min.DefaultMinFilter.class, out, in, shape,
+			net.imagej.ops.Ops.Filter.Min.class, out, in, shape,
 			outOfBoundsFactory);
 		return result;
 	}
@@ -1155,6 +1163,36 @@ public class FilterNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	/** Executes the "percentile" filter operation on the given arguments. */
+	@OpMethod(ops = {
+		net.imagej.ops.filter.percentile.DefaultPercentileFilter.class,
+		net.imagej.ops.filter.percentile.RectanglePercentileFilter.class })
+	public <T extends RealType<T>> IterableInterval<T> percentile(
+		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
+		final Shape shape, final double percent)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Filter.Percentile.class, out, in, shape, percent);
+		return result;
+	}
+
+	/** Executes the "percentile" filter operation on the given arguments. */
+	@OpMethod(ops = {
+		net.imagej.ops.filter.percentile.DefaultPercentileFilter.class,
+		net.imagej.ops.filter.percentile.RectanglePercentileFilter.class })
+	public <T extends RealType<T>> IterableInterval<T> percentile(
+		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
+		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory,
+		final double percent)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Filter.Percentile.class, out, in, shape,
+			outOfBoundsFactory, percent);
+		return result;
+	}
+
 	/** Executes the "sigma" filter operation on the given arguments. */
 	@OpMethod(op = net.imagej.ops.filter.sigma.DefaultSigmaFilter.class)
 	public <T extends RealType<T>> IterableInterval<T> sigma(
@@ -1183,27 +1221,29 @@ public class FilterNamespace extends AbstractNamespace {
 	}
 
 	/** Executes the "variance" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.variance.DefaultVarianceFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.variance.DefaultVarianceFilter.class,
+		net.imagej.ops.filter.variance.RectangleVarianceFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> variance(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.variance.DefaultVarianceFilter.class, out, in,
+			net.imagej.ops.Ops.Filter.Variance.class, out, in,
 			shape);
 		return result;
 	}
 
 	/** Executes the "variance" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.variance.DefaultVarianceFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.variance.DefaultVarianceFilter.class,
+		net.imagej.ops.filter.variance.RectangleVarianceFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> variance(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.variance.DefaultVarianceFilter.class, out, in,
+			net.imagej.ops.Ops.Filter.Variance.class, out, in,
 			shape, outOfBoundsFactory);
 		return result;
 	}
@@ -0,0 +1,242 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter;
+
+import net.imglib2.Cursor;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+/**
+ * Window sums and sums of squares of an image over all neighborhoods of a
+ * {@link RectangleShape}.
+ * <p>
+ * The input, extended by the span of the shape on each side, is copied once.
+ * The window sums are then computed separably: along each axis in turn, a
+ * running sum is slid over every line, adding the entering and subtracting the
+ * leaving value. The cost per pixel is thus independent of the span.
+ * </p>
+ * <p>
+ * All values are shifted by the first value of the extended input before they
+ * are summed, which keeps the variance accurate for data with a large offset.
+ * </p>
+ * <p>
+ * NB: The sums and sums of squares are held in two {@code double} arrays the
+ * size of the extended input, i.e. 16 bytes per pixel: 16 times the memory of
+ * an 8-bit input, and 4 times that of a 32-bit input.
+ * </p>
+ */
+public class RectangleSums {
+
+	private final boolean skipCenter;
+
+	private final long count;
+
+	private final double shift;
+
+	private final int[] strides;
+
+	private final double[] sums;
+
+	private final double[] squares;
+
+	/**
+	 * Computes the window sums of the given input.
+	 *
+	 * @param input the image whose neighborhoods are summed
+	 * @param shape the shape of the neighborhoods
+	 * @param outOfBoundsFactory the strategy for values beyond the input border
+	 * @throws IllegalArgumentException if the extended input has more than
+	 *           {@link Integer#MAX_VALUE} elements
+	 */
+	public <T extends RealType<T>> RectangleSums(
+		final RandomAccessibleInterval<T> input, final RectangleShape shape,
+		final OutOfBoundsFactory<T, RandomAccessibleInterval<T>> outOfBoundsFactory)
+	{
+		if (!fits(input, shape)) {
+			throw new IllegalArgumentException(
+				"Extended input is too large for window sums");
+		}
+		final int span = shape.getSpan();
+		skipCenter = shape.isSkippingCenter();
+
+		final int n = input.numDimensions();
+		final Interval extended = Intervals.expand(input, span);
+		final int[] dims = new int[n];
+		strides = new int[n];
+		int size = 1;
+		long windowSize = 1;
+		for (int d = 0; d < n; d++) {
+			dims[d] = (int) extended.dimension(d);
+			strides[d] = size;
+			size *= dims[d];
+			windowSize *= 2 * span + 1;
+		}
+		count = skipCenter ? windowSize - 1 : windowSize;
+
+		sums = new double[size];
+		squares = new double[size];
+		final Cursor<T> cursor = Views.flatIterable(Views.interval(Views.extend(
+			input, outOfBoundsFactory), extended)).cursor();
+		cursor.fwd();
+		shift = cursor.get().getRealDouble();
+		cursor.reset();
+		for (int i = 0; i < size; i++) {
+			final double v = cursor.next().getRealDouble() - shift;
+			sums[i] = v;
+			squares[i] = v * v;
+		}
+
+		for (int d = 0; d < n; d++) {
+			slide(dims[d], strides[d], 2 * span + 1);
+		}
+	}
+
+	// -- RectangleSums methods --
+
+	/**
+	 * Gets whether the given input is small enough for {@link RectangleSums}.
+	 *
+	 * @return true iff the input extended by the span of the shape has no more
+	 *         than {@link Integer#MAX_VALUE} elements
+	 */
+	public static boolean fits(final Interval input, final RectangleShape shape) {
+		long size = 1;
+		for (int d = 0; d < input.numDimensions(); d++) {
+			size *= input.dimension(d) + 2 * shape.getSpan();
+			if (size > Integer.MAX_VALUE) return false;
+		}
+		return true;
+	}
+
+	/** Gets the number of values in each neighborhood. */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Gets the index of the neighborhood centered at the given position.
+	 *
+	 * @param offset the position relative to the minimum of the input
+	 */
+	public int index(final long[] offset) {
+		int index = 0;
+		for (int d = 0; d < offset.length; d++) {
+			index += offset[d] * strides[d];
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the sum of the neighborhood with the given index.
+	 *
+	 * @param index the index of the neighborhood, see {@link #index(long[])}
+	 * @param center the value at the center of the neighborhood, only used if
+	 *          the shape skips its center
+	 */
+	public double sum(final int index, final double center) {
+		return shiftedSum(index, center) + shift * count;
+	}
+
+	/**
+	 * Gets the mean of the neighborhood with the given index.
+	 *
+	 * @param index the index of the neighborhood, see {@link #index(long[])}
+	 * @param center the value at the center of the neighborhood, only used if
+	 *          the shape skips its center
+	 */
+	public double mean(final int index, final double center) {
+		return shiftedSum(index, center) / count + shift;
+	}
+
+	/**
+	 * Gets the (sample) variance of the neighborhood with the given index, or
+	 * {@link Double#NaN} if it contains less than two values.
+	 *
+	 * @param index the index of the neighborhood, see {@link #index(long[])}
+	 * @param center the value at the center of the neighborhood, only used if
+	 *          the shape skips its center
+	 */
+	public double variance(final int index, final double center) {
+		if (count < 2) return Double.NaN;
+		final double sum = shiftedSum(index, center);
+		double sumOfSquares = squares[index];
+		if (skipCenter) {
+			final double c = center - shift;
+			sumOfSquares -= c * c;
+		}
+		// NB: Rounding may leave a tiny negative value for constant windows.
+		return Math.max(0, (sumOfSquares - sum * sum / count) / (count - 1));
+	}
+
+	// -- Helper methods --
+
+	private double shiftedSum(final int index, final double center) {
+		return skipCenter ? sums[index] - (center - shift) : sums[index];
+	}
+
+	/**
+	 * Replaces each value by the sum of the window of the given length starting
+	 * at it, along all lines of one axis. The sums are written in place, so the
+	 * value leaving the window is kept before it is overwritten. The last
+	 * {@code window - 1} values of each line are left as they are.
+	 */
+	private void slide(final int length, final int stride, final int window) {
+		if (window == 1) return;
+		final int block = length * stride;
+		for (int start = 0; start < sums.length; start += block) {
+			for (int line = start; line < start + stride; line++) {
+				slide(sums, line, length, stride, window);
+				slide(squares, line, length, stride, window);
+			}
+		}
+	}
+
+	private static void slide(final double[] values, final int line,
+		final int length, final int stride, final int window)
+	{
+		double sum = 0;
+		for (int i = 0; i < window; i++) {
+			sum += values[line + i * stride];
+		}
+		final int last = length - window;
+		for (int i = 0, pos = line; i <= last; i++, pos += stride) {
+			final double leaving = values[pos];
+			values[pos] = sum;
+			if (i < last) sum += values[pos + window * stride] - leaving;
+		}
+	}
+
+}
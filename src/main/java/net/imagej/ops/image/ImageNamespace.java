@@ -125,7 +125,8 @@ public class ImageNamespace extends AbstractNamespace {
 	// -- equation --
 
 	/** Executes the "equation" operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.image.equation.DefaultEquation.class)
+	@OpMethod(ops = { net.imagej.ops.image.equation.DefaultEquation.class,
+		net.imagej.ops.image.equation.CompiledEquation.class })
 	public <T extends RealType<T>> IterableInterval<T> equation(final String in) {
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
@@ -134,7 +135,8 @@ public class ImageNamespace extends AbstractNamespace {
 	}
 
 	/** Executes the "equation" operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.image.equation.DefaultEquation.class)
+	@OpMethod(ops = { net.imagej.ops.image.equation.DefaultEquation.class,
+		net.imagej.ops.image.equation.CompiledEquation.class })
 	public <T extends RealType<T>> IterableInterval<T> equation(
 			final IterableInterval<T> out, final String in) {
 		@SuppressWarnings("unchecked")
@@ -8,6 +8,7 @@ import java.util.concurrent.ExecutorService;
 
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
 import net.imagej.ops.create.img.CreateImgFromDimsAndType;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
@@ -38,8 +39,6 @@ public class DefaultDistanceTransform<B extends BooleanType<B>, T extends RealTy
 	@SuppressWarnings("rawtypes")
 	private UnaryFunctionOp<FinalInterval, RandomAccessibleInterval> createOp;
 
-	private ExecutorService es;
-
 	@Override
 	public boolean conforms() {
 		long max_dist = 0;
@@ -50,7 +49,6 @@ public class DefaultDistanceTransform<B extends BooleanType<B>, T extends RealTy
 
 	@Override
 	public void initialize() {
-		es = ts.getExecutorService();
 		createOp = Functions.unary(ops(), CreateImgFromDimsAndType.class, RandomAccessibleInterval.class,
 				new FinalInterval(in()), new FloatType());
 	}
@@ -82,6 +80,9 @@ public class DefaultDistanceTransform<B extends BooleanType<B>, T extends RealTy
 	 */
 	@Override
 	public void compute1(final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<T> out) {
+		final ExecutorService es = ParallelContext.current(ops())
+			.getExecutorService(ts);
+
 		// stores the size of each dimension
 		final int[] dimensSizes = new int[in.numDimensions()];
 
@@ -7,6 +7,7 @@ import java.util.concurrent.ExecutorService;
 
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
 import net.imagej.ops.create.img.CreateImgFromDimsAndType;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
@@ -36,8 +37,6 @@ public class DistanceTransform3D<B extends BooleanType<B>, T extends RealType<T>
 	@SuppressWarnings("rawtypes")
 	private UnaryFunctionOp<FinalInterval, RandomAccessibleInterval> createOp;
 
-	private ExecutorService es;
-
 	@Override
 	public boolean conforms() {
 		if (in().numDimensions() == 3) {
@@ -50,7 +49,6 @@ public class DistanceTransform3D<B extends BooleanType<B>, T extends RealType<T>
 
 	@Override
 	public void initialize() {
-		es = ts.getExecutorService();
 		createOp = Functions.unary(ops(), CreateImgFromDimsAndType.class, RandomAccessibleInterval.class,
 				new FinalInterval(in()), new FloatType());
 	}
@@ -67,6 +65,8 @@ public class DistanceTransform3D<B extends BooleanType<B>, T extends RealType<T>
 	 */
 	@Override
 	public void compute1(final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<T> out) {
+		final ExecutorService es = ParallelContext.current(ops())
+			.getExecutorService(ts);
 
 		// tempValues stores the integer values of the first phase, i.e. the
 		// first two scans
@@ -34,6 +34,7 @@ import java.util.Iterator;
 
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
@@ -90,7 +91,8 @@ public class DefaultCCA<T extends IntegerType<T>, L, I extends IntegerType<I>>
 		}
 
 		ConnectedComponents.labelAllConnectedComponents(input, output,
-			labelGenerator, se, threads.getExecutorService());
+			labelGenerator, se, ParallelContext.current(ops()).getExecutorService(
+				threads));
 	}
 
 	@Override
@@ -0,0 +1,137 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops.join.DefaultJoinNComputers;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imglib2.type.numeric.RealType;
+
+/**
+ * Fuses a chain of pixel-wise {@link UnaryComputerOp}s on {@link RealType}s
+ * into a single per-pixel function.
+ * <p>
+ * Mapping a {@link FusedComputer} over an image applies the whole chain in one
+ * traversal. Unlike {@link DefaultJoinNComputers} over images, no intermediate
+ * images are created: the result of each op but the last is held in a scratch
+ * variable of that op's output type, given as a list of intermediate types.
+ * Each step therefore rounds and clamps just as it would when writing into an
+ * intermediate image of that type.
+ * </p>
+ * 
+ * @param <EI> element type of inputs
+ * @param <EO> element type of outputs
+ * @see MapFused
+ */
+public class FusedComputer<EI extends RealType<EI>, EO extends RealType<EO>>
+	extends AbstractUnaryComputerOp<EI, EO>
+{
+
+	private final List<? extends UnaryComputerOp<?, ?>> ops;
+
+	private final List<? extends RealType<?>> types;
+
+	/** Scratch variables, holding the output of each op but the last. */
+	private Object[] scratch;
+
+	/**
+	 * @param ops The ops to fuse, in order of application.
+	 * @param types The output types of each op but the last, i.e. the types of
+	 *          the intermediate results.
+	 */
+	public FusedComputer(final List<? extends UnaryComputerOp<?, ?>> ops,
+		final List<? extends RealType<?>> types)
+	{
+		if (ops.isEmpty()) {
+			throw new IllegalArgumentException("No ops to fuse");
+		}
+		if (types.size() != ops.size() - 1) {
+			throw new IllegalArgumentException("Expected " + (ops.size() - 1) +
+				" intermediate types, but got " + types.size());
+		}
+		this.ops = ops;
+		this.types = types;
+	}
+
+	/** Gets the fused ops, in order of application. */
+	public List<? extends UnaryComputerOp<?, ?>> getOps() {
+		return ops;
+	}
+
+	/** Gets the types of the intermediate results. */
+	public List<? extends RealType<?>> getTypes() {
+		return types;
+	}
+
+	// -- UnaryComputerOp methods --
+
+	@Override
+	public void compute1(final EI input, final EO output) {
+		final int last = ops.size() - 1;
+		if (scratch == null) {
+			scratch = new Object[last];
+			for (int i = 0; i < last; i++) {
+				scratch[i] = types.get(i).createVariable();
+			}
+		}
+
+		Object tmpInput = input;
+		for (int i = 0; i < last; i++) {
+			compute(ops.get(i), tmpInput, scratch[i]);
+			tmpInput = scratch[i];
+		}
+		compute(ops.get(last), tmpInput, output);
+	}
+
+	// -- Threadable methods --
+
+	@Override
+	public FusedComputer<EI, EO> getIndependentInstance() {
+		final List<UnaryComputerOp<?, ?>> opsCopy = new ArrayList<>();
+		for (final UnaryComputerOp<?, ?> op : ops) {
+			opsCopy.add(op.getIndependentInstance());
+		}
+		return new FusedComputer<>(opsCopy, types);
+	}
+
+	// -- Helper methods --
+
+	@SuppressWarnings("unchecked")
+	private static <I, O> void compute(final UnaryComputerOp<?, ?> op,
+		final I input, final O output)
+	{
+		((UnaryComputerOp<I, O>) op).compute1(input, output);
+	}
+
+}
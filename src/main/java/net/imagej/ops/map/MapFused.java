@@ -0,0 +1,143 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Maps a chain of pixel-wise {@link UnaryComputerOp}s over an image in a single
+ * traversal, by fusing them into a {@link FusedComputer}.
+ * <p>
+ * The types of the intermediate results are either given explicitly, or taken
+ * from the output samples the ops were matched with. Chains whose types are
+ * unknown or do not line up are not matched.
+ * </p>
+ * <p>
+ * The traversal itself is delegated to the best matching {@link MapOp}, so
+ * fused chains also profit from parallel and storage-level maps.
+ * </p>
+ * 
+ * @param <EI> element type of inputs
+ * @param <EO> element type of outputs
+ */
+@Plugin(type = Ops.Map.class)
+public class MapFused<EI extends RealType<EI>, EO extends RealType<EO>>
+	extends AbstractUnaryComputerOp<IterableInterval<EI>, IterableInterval<EO>>
+	implements Contingent
+{
+
+	@Parameter
+	private List<? extends UnaryComputerOp<?, ?>> ops;
+
+	/** The output types of each op but the last. */
+	@Parameter(required = false)
+	private List<? extends RealType<?>> types;
+
+	private UnaryComputerOp<IterableInterval<EI>, IterableInterval<EO>> mapper;
+
+	@Override
+	public void initialize() {
+		mapper = Computers.unary(ops(), Ops.Map.class, out(), in(),
+			new FusedComputer<EI, EO>(ops, intermediateTypes()));
+	}
+
+	@Override
+	public boolean conforms() {
+		if (ops.isEmpty()) return false;
+		if (!Maps.compatible(in(), out()) && !Maps.compatibleStorage(in(), out())) {
+			return false;
+		}
+		final List<? extends RealType<?>> intermediates = intermediateTypes();
+		if (intermediates == null) return false;
+
+		// NB: Check the types of the ops which know them.
+		final int last = ops.size() - 1;
+		for (int i = 0; i <= last; i++) {
+			final Object opIn = ops.get(i).in();
+			final Object opOut = ops.get(i).out();
+			final Object expectedIn = i == 0 ? first(in()) : intermediates.get(i -
+				1);
+			final Object expectedOut = i == last ? first(out()) : intermediates.get(
+				i);
+			if (!sameClass(opIn, expectedIn) || !sameClass(opOut, expectedOut)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void compute1(final IterableInterval<EI> input,
+		final IterableInterval<EO> output)
+	{
+		mapper.compute1(input, output);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Gets the types of the intermediate results, or null if they are unknown.
+	 */
+	private List<? extends RealType<?>> intermediateTypes() {
+		if (types != null) {
+			return types.size() == ops.size() - 1 ? types : null;
+		}
+		final List<RealType<?>> outTypes = new ArrayList<>();
+		for (int i = 0; i < ops.size() - 1; i++) {
+			final Object opOut = ops.get(i).out();
+			if (!(opOut instanceof RealType)) return null;
+			outTypes.add((RealType<?>) opOut);
+		}
+		return outTypes;
+	}
+
+	private static Object first(final IterableInterval<?> image) {
+		return image.size() == 0 ? null : image.firstElement();
+	}
+
+	/** Checks that both objects have the same class, if both are known. */
+	private static boolean sameClass(final Object a, final Object b) {
+		return a == null || b == null || a.getClass() == b.getClass();
+	}
+
+}
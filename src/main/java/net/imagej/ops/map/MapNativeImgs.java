@@ -0,0 +1,322 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.kernel.Kernels;
+import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link MapOp}s over images which store their elements in primitive arrays,
+ * i.e. {@link ArrayImg}s and {@link PlanarImg}s of equal dimensions. Instead
+ * of cursors, they move type proxies directly over the underlying storage,
+ * and take precedence over the cursor-based maps whenever they apply. Maps
+ * whose op is a primitive {@link Kernels kernel} apply it to the storage
+ * arrays directly.
+ * 
+ * @see Maps#compatibleStorage
+ */
+public class MapNativeImgs {
+
+	private MapNativeImgs() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * {@link MapUnaryComputer} between images with primitive array storage.
+	 * 
+	 * @param <EI> element type of inputs
+	 * @param <EO> element type of outputs
+	 */
+	@Plugin(type = Ops.Map.class, priority = 14)
+	public static class NativeImgToNativeImg<EI, EO> extends
+		AbstractMapComputer<EI, EO, IterableInterval<EI>, IterableInterval<EO>>
+		implements Contingent
+	{
+
+		@Override
+		public boolean conforms() {
+			return out() == null ? Maps.compatibleStorage(in()) : Maps
+				.compatibleStorage(in(), out());
+		}
+
+		@Override
+		public void compute1(final IterableInterval<EI> input,
+			final IterableInterval<EO> output)
+		{
+			if (!Maps.compatibleStorage(input, output)) {
+				Maps.map(input, output, getOp());
+				return;
+			}
+			Maps.mapStorage(input, output, getOp(), 0, input.size());
+		}
+	}
+
+	/**
+	 * Parallelized {@link MapUnaryComputer} between images with primitive array
+	 * storage.
+	 * 
+	 * @param <EI> element type of inputs
+	 * @param <EO> element type of outputs
+	 */
+	@Plugin(type = Ops.Map.class, priority = 24)
+	public static class NativeImgToNativeImgParallel<EI, EO> extends
+		AbstractMapComputer<EI, EO, IterableInterval<EI>, IterableInterval<EO>>
+		implements Contingent, Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return in().size() <= Integer.MAX_VALUE && (out() == null ? Maps
+				.compatibleStorage(in()) : Maps.compatibleStorage(in(), out()));
+		}
+
+		@Override
+		public void compute1(final IterableInterval<EI> input,
+			final IterableInterval<EO> output)
+		{
+			if (!Maps.compatibleStorage(input, output)) {
+				Maps.map(input, output, getOp());
+				return;
+			}
+			ops().run(ChunkerOp.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					if (stepSize != 1) {
+						Maps.map(input, output, getOp().getIndependentInstance(),
+							startIndex, stepSize, numSteps);
+						return;
+					}
+					Maps.mapStorage(input, output, getOp().getIndependentInstance(),
+						startIndex, numSteps);
+				}
+			}, input.size());
+		}
+	}
+
+	/**
+	 * {@link MapBinaryComputer} between images with primitive array storage.
+	 * 
+	 * @param <EI1> element type of first inputs
+	 * @param <EI2> element type of second inputs
+	 * @param <EO> element type of outputs
+	 */
+	@Plugin(type = Ops.Map.class, priority = Priority.LOW_PRIORITY + 18)
+	public static class NativeImgAndNativeImgToNativeImg<EI1, EI2, EO> extends
+		AbstractMapBinaryComputer<EI1, EI2, EO, IterableInterval<EI1>, IterableInterval<EI2>, IterableInterval<EO>>
+		implements Contingent
+	{
+
+		@Override
+		public boolean conforms() {
+			return out() == null ? Maps.compatibleStorage(in1(), in2()) : Maps
+				.compatibleStorage(in1(), in2(), out());
+		}
+
+		@Override
+		public void compute2(final IterableInterval<EI1> input1,
+			final IterableInterval<EI2> input2, final IterableInterval<EO> output)
+		{
+			if (!Maps.compatibleStorage(input1, input2, output)) {
+				Maps.map(input1, input2, output, getOp());
+				return;
+			}
+			Maps.mapStorage(input1, input2, output, getOp(), 0, input1.size());
+		}
+	}
+
+	/**
+	 * Parallelized {@link MapBinaryComputer} between images with primitive array
+	 * storage.
+	 * 
+	 * @param <EI1> element type of first inputs
+	 * @param <EI2> element type of second inputs
+	 * @param <EO> element type of outputs
+	 */
+	@Plugin(type = Ops.Map.class, priority = Priority.LOW_PRIORITY + 28)
+	public static class NativeImgAndNativeImgToNativeImgParallel<EI1, EI2, EO>
+		extends
+		AbstractMapBinaryComputer<EI1, EI2, EO, IterableInterval<EI1>, IterableInterval<EI2>, IterableInterval<EO>>
+		implements Contingent, Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return in1().size() <= Integer.MAX_VALUE && (out() == null ? Maps
+				.compatibleStorage(in1(), in2()) : Maps.compatibleStorage(in1(),
+					in2(), out()));
+		}
+
+		@Override
+		public void compute2(final IterableInterval<EI1> input1,
+			final IterableInterval<EI2> input2, final IterableInterval<EO> output)
+		{
+			if (!Maps.compatibleStorage(input1, input2, output)) {
+				Maps.map(input1, input2, output, getOp());
+				return;
+			}
+			ops().run(ChunkerOp.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					if (stepSize != 1) {
+						Maps.map(input1, input2, output, getOp().getIndependentInstance(),
+							startIndex, stepSize, numSteps);
+						return;
+					}
+					Maps.mapStorage(input1, input2, output, getOp()
+						.getIndependentInstance(), startIndex, numSteps);
+				}
+			}, input1.size());
+		}
+	}
+
+	/**
+	 * Parallelized map applying a {@link Kernels.DoubleUnaryKernel} directly to
+	 * the storage arrays of {@link DoubleType} images, via {@link MapKernels}.
+	 * It takes precedence over the other maps whenever the mapped op is such a
+	 * kernel, e.g. one of the {@link net.imagej.ops.math.UnaryRealTypeMath}
+	 * ops.
+	 */
+	@Plugin(type = Ops.Map.class, priority = 25)
+	public static class DoubleKernelNativeImgToNativeImg extends
+		AbstractUnaryComputerOp<IterableInterval<DoubleType>, IterableInterval<DoubleType>>
+		implements Ops.Map, Contingent, Parallel
+	{
+
+		@Parameter
+		private Kernels.DoubleUnaryKernel kernel;
+
+		@Override
+		public boolean conforms() {
+			return out() != null && in().size() <= Integer.MAX_VALUE && Maps
+				.compatibleStorage(in(), out()) && doubles(in(), out());
+		}
+
+		@Override
+		public void compute1(final IterableInterval<DoubleType> input,
+			final IterableInterval<DoubleType> output)
+		{
+			ops().run(ChunkerOp.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					if (stepSize == 1) {
+						MapKernels.map(input, output, kernel, startIndex, numSteps);
+						return;
+					}
+					for (int i = 0; i < numSteps; i++) {
+						MapKernels.map(input, output, kernel, startIndex + (long) i *
+							stepSize, 1);
+					}
+				}
+			}, input.size());
+		}
+	}
+
+	/**
+	 * Parallelized map applying a {@link Kernels.DoubleBinaryKernel} directly to
+	 * the storage arrays of {@link DoubleType} images, via {@link MapKernels}.
+	 * It takes precedence over the other maps whenever the mapped op is such a
+	 * kernel, e.g. one of the {@link net.imagej.ops.math.PrimitiveMath} ops.
+	 */
+	@Plugin(type = Ops.Map.class, priority = Priority.LOW_PRIORITY + 29)
+	public static class DoubleKernelNativeImgAndNativeImgToNativeImg extends
+		AbstractBinaryComputerOp<IterableInterval<DoubleType>, IterableInterval<DoubleType>, IterableInterval<DoubleType>>
+		implements Ops.Map, Contingent, Parallel
+	{
+
+		@Parameter
+		private Kernels.DoubleBinaryKernel kernel;
+
+		@Override
+		public boolean conforms() {
+			return out() != null && in1().size() <= Integer.MAX_VALUE && Maps
+				.compatibleStorage(in1(), in2(), out()) && doubles(in1(), in2(),
+					out());
+		}
+
+		@Override
+		public void compute2(final IterableInterval<DoubleType> input1,
+			final IterableInterval<DoubleType> input2,
+			final IterableInterval<DoubleType> output)
+		{
+			ops().run(ChunkerOp.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					if (stepSize == 1) {
+						MapKernels.map(input1, input2, output, kernel, startIndex,
+							numSteps);
+						return;
+					}
+					for (int i = 0; i < numSteps; i++) {
+						MapKernels.map(input1, input2, output, kernel, startIndex +
+							(long) i * stepSize, 1);
+					}
+				}
+			}, input1.size());
+		}
+	}
+
+	// -- Helper methods --
+
+	/** Checks whether the given images have {@link DoubleType} elements. */
+	private static boolean doubles(final IterableInterval<?>... imgs) {
+		for (final IterableInterval<?> img : imgs) {
+			if (!(img.firstElement() instanceof DoubleType)) return false;
+		}
+		return true;
+	}
+
+}
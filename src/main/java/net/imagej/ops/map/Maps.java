@@ -40,6 +40,8 @@ import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.planar.PlanarImg;
 import net.imglib2.util.Intervals;
 
 /**
@@ -122,6 +124,23 @@ public class Maps {
 		return Intervals.contains(a, c) && Intervals.contains(b, c);
 	}
 
+	/**
+	 * Checks whether the given images all store their elements in primitive
+	 * arrays, i.e. are {@link ArrayImg}s or {@link PlanarImg}s, and have equal
+	 * dimensions. Their elements are then laid out in the same flat order, and
+	 * can be mapped with {@link #mapStorage}.
+	 */
+	public static boolean compatibleStorage(final Object... imgs) {
+		for (final Object img : imgs) {
+			if (!(img instanceof ArrayImg) && !(img instanceof PlanarImg)) {
+				return false;
+			}
+			if (!Intervals.equalDimensions((IterableInterval<?>) imgs[0],
+				(IterableInterval<?>) img)) return false;
+		}
+		return true;
+	}
+
 	// -- Nullary Maps --
 
 	public static <O> void map(final Iterable<O> a,
@@ -140,7 +159,7 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.compute0(aCursor.get());
-			aCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -295,8 +314,8 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.compute1(aCursor.get(), bCursor.get());
-			aCursor.jumpFwd(stepSize);
-			bCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
+			fwd(bCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -312,7 +331,7 @@ public class Maps {
 		while (ctr < numSteps) {
 			bAccess.setPosition(aCursor);
 			op.compute1(aCursor.get(), bAccess.get());
-			aCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -328,7 +347,7 @@ public class Maps {
 		while (ctr < numSteps) {
 			aAccess.setPosition(bCursor);
 			op.compute1(aAccess.get(), bCursor.get());
-			bCursor.jumpFwd(stepSize);
+			fwd(bCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -349,9 +368,9 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.compute2(aCursor.get(), bCursor.get(), cCursor.get());
-			aCursor.jumpFwd(stepSize);
-			bCursor.jumpFwd(stepSize);
-			cCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
+			fwd(bCursor, stepSize);
+			fwd(cCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -370,8 +389,8 @@ public class Maps {
 		while (ctr < numSteps) {
 			cAccess.setPosition(aCursor);
 			op.compute2(aCursor.get(), bCursor.get(), cAccess.get());
-			aCursor.jumpFwd(stepSize);
-			bCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
+			fwd(bCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -390,8 +409,8 @@ public class Maps {
 		while (ctr < numSteps) {
 			bAccess.setPosition(aCursor);
 			op.compute2(aCursor.get(), bAccess.get(), cCursor.get());
-			aCursor.jumpFwd(stepSize);
-			cCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
+			fwd(cCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -410,8 +429,8 @@ public class Maps {
 		while (ctr < numSteps) {
 			aAccess.setPosition(bCursor);
 			op.compute2(aAccess.get(), bCursor.get(), cCursor.get());
-			bCursor.jumpFwd(stepSize);
-			cCursor.jumpFwd(stepSize);
+			fwd(bCursor, stepSize);
+			fwd(cCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -430,7 +449,7 @@ public class Maps {
 			bAccess.setPosition(aCursor);
 			cAccess.setPosition(aCursor);
 			op.compute2(aCursor.get(), bAccess.get(), cAccess.get());
-			aCursor.jumpFwd(stepSize);
+			fwd(aCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -449,7 +468,7 @@ public class Maps {
 			aAccess.setPosition(bCursor);
 			cAccess.setPosition(bCursor);
 			op.compute2(aAccess.get(), bCursor.get(), cAccess.get());
-			bCursor.jumpFwd(stepSize);
+			fwd(bCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -468,7 +487,7 @@ public class Maps {
 			aAccess.setPosition(cCursor);
 			bAccess.setPosition(cCursor);
 			op.compute2(aAccess.get(), bAccess.get(), cCursor.get());
-			cCursor.jumpFwd(stepSize);
+			fwd(cCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -491,7 +510,7 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate(argCursor.get());
-			argCursor.jumpFwd(stepSize);
+			fwd(argCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -545,8 +564,8 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate1(argCursor.get(), inCursor.get());
-			argCursor.jumpFwd(stepSize);
-			inCursor.jumpFwd(stepSize);
+			fwd(argCursor, stepSize);
+			fwd(inCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -562,7 +581,7 @@ public class Maps {
 		while (ctr < numSteps) {
 			inAccess.setPosition(argCursor);
 			op.mutate1(argCursor.get(), inAccess.get());
-			argCursor.jumpFwd(stepSize);
+			fwd(argCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -578,7 +597,7 @@ public class Maps {
 		while (ctr < numSteps) {
 			argAccess.setPosition(inCursor);
 			op.mutate1(argAccess.get(), inCursor.get());
-			inCursor.jumpFwd(stepSize);
+			fwd(inCursor, stepSize);
 			ctr++;
 		}
 	}
@@ -604,10 +623,77 @@ public class Maps {
 		int ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate2(argCursor.get(), inCursor.get());
-			argCursor.jumpFwd(stepSize);
-			inCursor.jumpFwd(stepSize);
+			fwd(argCursor, stepSize);
+			fwd(inCursor, stepSize);
 			ctr++;
 		}
 	}
 
+	// -- Storage-level Maps --
+
+	/**
+	 * Maps over the elements of images which are {@link #compatibleStorage}, in
+	 * their flat storage order, starting at the given flat index.
+	 */
+	public static <I, O> void mapStorage(final IterableInterval<I> a,
+		final IterableInterval<O> b, final UnaryComputerOp<I, O> op,
+		final long startIndex, final long numSteps)
+	{
+		if (numSteps <= 0) return;
+		final NativeImgAccess<I> aAccess = new NativeImgAccess<>(a);
+		final NativeImgAccess<O> bAccess = new NativeImgAccess<>(b);
+		aAccess.setIndex(startIndex);
+		bAccess.setIndex(startIndex);
+		final I aType = aAccess.get();
+		final O bType = bAccess.get();
+		// NB: Never move past the last element, which may end the last plane.
+		for (long i = 1; i < numSteps; i++) {
+			op.compute1(aType, bType);
+			aAccess.fwd();
+			bAccess.fwd();
+		}
+		op.compute1(aType, bType);
+	}
+
+	/**
+	 * Maps over the elements of images which are {@link #compatibleStorage}, in
+	 * their flat storage order, starting at the given flat index.
+	 */
+	public static <I1, I2, O> void mapStorage(final IterableInterval<I1> a,
+		final IterableInterval<I2> b, final IterableInterval<O> c,
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long numSteps)
+	{
+		if (numSteps <= 0) return;
+		final NativeImgAccess<I1> aAccess = new NativeImgAccess<>(a);
+		final NativeImgAccess<I2> bAccess = new NativeImgAccess<>(b);
+		final NativeImgAccess<O> cAccess = new NativeImgAccess<>(c);
+		aAccess.setIndex(startIndex);
+		bAccess.setIndex(startIndex);
+		cAccess.setIndex(startIndex);
+		final I1 aType = aAccess.get();
+		final I2 bType = bAccess.get();
+		final O cType = cAccess.get();
+		// NB: Never move past the last element, which may end the last plane.
+		for (long i = 1; i < numSteps; i++) {
+			op.compute2(aType, bType, cType);
+			aAccess.fwd();
+			bAccess.fwd();
+			cAccess.fwd();
+		}
+		op.compute2(aType, bType, cType);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Moves the cursor the given number of steps forward; consecutive elements
+	 * are reached by a plain {@link Cursor#fwd()}, which avoids recomputing the
+	 * position as {@link Cursor#jumpFwd(long)} may do.
+	 */
+	private static void fwd(final Cursor<?> cursor, final int stepSize) {
+		if (stepSize == 1) cursor.fwd();
+		else cursor.jumpFwd(stepSize);
+	}
+
 }
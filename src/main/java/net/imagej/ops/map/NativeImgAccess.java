@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import net.imglib2.IterableInterval;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.NativeType;
+
+/**
+ * Walks the elements of an {@link net.imglib2.img.array.ArrayImg} or a
+ * {@link PlanarImg} in their flat storage order, by moving a single type proxy
+ * over the underlying primitive arrays instead of using a cursor.
+ * 
+ * @param <T> element type of the image
+ */
+final class NativeImgAccess<T> implements PlanarImg.PlanarContainerSampler {
+
+	private final T type;
+
+	private final NativeType<?> proxy;
+
+	private final boolean planar;
+
+	/** Number of elements per primitive array. */
+	private final long planeSize;
+
+	private int plane;
+
+	private int offset;
+
+	public NativeImgAccess(final IterableInterval<T> img) {
+		type = img.cursor().next();
+		proxy = (NativeType<?>) type;
+		planar = img instanceof PlanarImg;
+		planeSize = NativeImgStorage.arraySize(img);
+	}
+
+	/** Gets the type proxy, pointing at the current element. */
+	public T get() {
+		return type;
+	}
+
+	/** Moves the proxy to the element with the given flat index. */
+	public void setIndex(final long index) {
+		plane = (int) (index / planeSize);
+		offset = (int) (index % planeSize);
+		if (planar) proxy.updateContainer(this);
+		proxy.updateIndex(offset);
+	}
+
+	/** Moves the proxy to the next element. */
+	public void fwd() {
+		if (++offset == planeSize && planar) {
+			plane++;
+			offset = 0;
+			proxy.updateContainer(this);
+			proxy.updateIndex(0);
+		}
+		else proxy.incIndex();
+	}
+
+	// -- PlanarContainerSampler methods --
+
+	@Override
+	public int getCurrentSliceIndex() {
+		return plane;
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import net.imglib2.IterableInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.util.Intervals;
+
+/**
+ * Utility methods locating the elements of {@link ArrayImg}s and
+ * {@link PlanarImg}s within their primitive storage arrays, by flat index.
+ * 
+ * @see Maps#compatibleStorage
+ */
+final class NativeImgStorage {
+
+	private NativeImgStorage() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Gets the number of elements per storage array: all elements for an
+	 * {@link ArrayImg}, the elements of one plane for a {@link PlanarImg}.
+	 */
+	public static long arraySize(final IterableInterval<?> img) {
+		if (!(img instanceof PlanarImg)) return Intervals.numElements(img);
+		return img.numDimensions() > 1 ? img.dimension(0) * img.dimension(1) : img
+			.dimension(0);
+	}
+
+	/** Gets the storage array holding the element with the given flat index. */
+	public static Object array(final IterableInterval<?> img, final long index) {
+		if (img instanceof PlanarImg) {
+			final int plane = (int) (index / arraySize(img));
+			return ((ArrayDataAccess<?>) ((PlanarImg<?, ?>) img).getPlane(plane))
+				.getCurrentStorageArray();
+		}
+		return ((ArrayDataAccess<?>) ((ArrayImg<?, ?>) img).update(null))
+			.getCurrentStorageArray();
+	}
+
+	/**
+	 * Gets the offset of the element with the given flat index within its
+	 * storage array.
+	 */
+	public static int offset(final IterableInterval<?> img, final long index) {
+		return (int) (index % arraySize(img));
+	}
+
+	/**
+	 * Gets the number of elements from the given flat index to the end of its
+	 * storage array.
+	 */
+	public static int remaining(final IterableInterval<?> img, final long index) {
+		final long size = arraySize(img);
+		return (int) (size - index % size);
+	}
+
+}
@@ -106,6 +106,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.AbsDouble.class,
+		net.imagej.ops.math.NativeImgMath.AbsFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> abs(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Abs.class, out, in);
+		return result;
+	}
+
 	@OpMethod(ops = {
 		net.imagej.ops.math.ConstantToArrayImageP.MultiplyByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.MultiplyByte.class,
@@ -201,7 +212,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.IIToIIOutputII.Add.class)
+	@OpMethod(ops = { net.imagej.ops.math.IIToIIOutputII.Add.class,
+		net.imagej.ops.math.NativeImgMath.AddByte.class,
+		net.imagej.ops.math.NativeImgMath.AddInt.class,
+		net.imagej.ops.math.NativeImgMath.AddLong.class,
+		net.imagej.ops.math.NativeImgMath.AddShort.class,
+		net.imagej.ops.math.NativeImgMath.AddFloat.class,
+		net.imagej.ops.math.NativeImgMath.AddDouble.class,
+		net.imagej.ops.math.NativeImgMath.AddUnsignedByte.class,
+		net.imagej.ops.math.NativeImgMath.AddUnsignedInt.class,
+		net.imagej.ops.math.NativeImgMath.AddUnsignedLong.class,
+		net.imagej.ops.math.NativeImgMath.AddUnsignedShort.class })
 	public <T extends NumericType<T>> IterableInterval<T> add(
 		final IterableInterval<T> out, final IterableInterval<T> in1,
 		final IterableInterval<T> in2)
@@ -355,6 +376,72 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.AddByte.class,
+		net.imagej.ops.math.ConstantToCellImage.AddUnsignedByte.class })
+	public <B extends GenericByteType<B>> IterableInterval<B> add(
+		final IterableInterval<B> image, final byte value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<B> result = (IterableInterval<B>) ops().run(
+			net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.AddDouble.class)
+	public IterableInterval<DoubleType> add(
+		final IterableInterval<DoubleType> image, final double value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<DoubleType> result =
+			(IterableInterval<DoubleType>) ops().run(
+				net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.AddFloat.class)
+	public IterableInterval<FloatType> add(
+		final IterableInterval<FloatType> image, final float value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<FloatType> result =
+			(IterableInterval<FloatType>) ops().run(
+				net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.AddInt.class,
+		net.imagej.ops.math.ConstantToCellImage.AddUnsignedInt.class })
+	public <I extends GenericIntType<I>> IterableInterval<I> add(
+		final IterableInterval<I> image, final int value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<I> result = (IterableInterval<I>) ops().run(
+			net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.AddLong.class,
+		net.imagej.ops.math.ConstantToCellImage.AddUnsignedLong.class })
+	public <N extends NativeType<N>> IterableInterval<N> add(
+		final IterableInterval<N> image, final long value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<N> result = (IterableInterval<N>) ops().run(
+			net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.AddShort.class,
+		net.imagej.ops.math.ConstantToCellImage.AddUnsignedShort.class })
+	public <S extends GenericShortType<S>> IterableInterval<S> add(
+		final IterableInterval<S> image, final short value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<S> result = (IterableInterval<S>) ops().run(
+			net.imagej.ops.Ops.Math.Add.class, image, value);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Add.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> add(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -426,6 +513,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.ArccosDouble.class,
+		net.imagej.ops.math.NativeImgMath.ArccosFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> arccos(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Arccos.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccosh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arccosh(final O out,
 		final I in)
@@ -513,6 +611,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.ArcsinDouble.class,
+		net.imagej.ops.math.NativeImgMath.ArcsinFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> arcsin(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Arcsin.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsinh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arcsinh(final O out,
 		final I in)
@@ -540,6 +649,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.ArctanDouble.class,
+		net.imagej.ops.math.NativeImgMath.ArctanFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> arctan(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Arctan.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctanh.class)
 	public <I extends RealType<I>, O extends RealType<O>> O arctanh(final O out,
 		final I in)
@@ -574,6 +694,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CeilDouble.class,
+		net.imagej.ops.math.NativeImgMath.CeilFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> ceil(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Ceil.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerComplement.class)
 	public int complement(final int a) {
 		final int result = (Integer) ops().run(
@@ -604,6 +735,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CosDouble.class,
+		net.imagej.ops.math.NativeImgMath.CosFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> cos(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Cos.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCosh.class)
 	public double cosh(final double a) {
 		final double result = (Double) ops().run(
@@ -620,6 +762,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CoshDouble.class,
+		net.imagej.ops.math.NativeImgMath.CoshFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> cosh(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Cosh.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cot.class)
 	public <I extends RealType<I>, O extends RealType<O>> O cot(final O out,
 		final I in)
@@ -629,6 +782,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CotDouble.class,
+		net.imagej.ops.math.NativeImgMath.CotFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> cot(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Cot.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Coth.class)
 	public <I extends RealType<I>, O extends RealType<O>> O coth(final O out,
 		final I in)
@@ -638,6 +802,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CothDouble.class,
+		net.imagej.ops.math.NativeImgMath.CothFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> coth(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Coth.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csc.class)
 	public <I extends RealType<I>, O extends RealType<O>> O csc(final O out,
 		final I in)
@@ -647,6 +822,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CscDouble.class,
+		net.imagej.ops.math.NativeImgMath.CscFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> csc(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Csc.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csch.class)
 	public <I extends RealType<I>, O extends RealType<O>> O csch(final O out,
 		final I in)
@@ -656,6 +842,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CschDouble.class,
+		net.imagej.ops.math.NativeImgMath.CschFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> csch(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Csch.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class)
 	public double cubeRoot(final double a) {
 		final double result = (Double) ops().run(
@@ -673,6 +870,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.CubeRootDouble.class,
+		net.imagej.ops.math.NativeImgMath.CubeRootFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> cubeRoot(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.CubeRoot.class, out, in);
+		return result;
+	}
+
 	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.DivideByte.class,
 		net.imagej.ops.math.ConstantToArrayImageP.DivideUnsignedByte.class,
@@ -764,7 +972,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.IIToIIOutputII.Divide.class)
+	@OpMethod(ops = { net.imagej.ops.math.IIToIIOutputII.Divide.class,
+		net.imagej.ops.math.NativeImgMath.DivideByte.class,
+		net.imagej.ops.math.NativeImgMath.DivideInt.class,
+		net.imagej.ops.math.NativeImgMath.DivideLong.class,
+		net.imagej.ops.math.NativeImgMath.DivideShort.class,
+		net.imagej.ops.math.NativeImgMath.DivideFloat.class,
+		net.imagej.ops.math.NativeImgMath.DivideDouble.class,
+		net.imagej.ops.math.NativeImgMath.DivideUnsignedByte.class,
+		net.imagej.ops.math.NativeImgMath.DivideUnsignedInt.class,
+		net.imagej.ops.math.NativeImgMath.DivideUnsignedLong.class,
+		net.imagej.ops.math.NativeImgMath.DivideUnsignedShort.class })
 	public <T extends NumericType<T>> IterableInterval<T> divide(
 		final IterableInterval<T> out, final IterableInterval<T> in1,
 		final IterableInterval<T> in2)
@@ -920,6 +1138,72 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.DivideByte.class,
+		net.imagej.ops.math.ConstantToCellImage.DivideUnsignedByte.class })
+	public <B extends GenericByteType<B>> IterableInterval<B> divide(
+		final IterableInterval<B> image, final byte value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<B> result = (IterableInterval<B>) ops().run(
+			net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.DivideDouble.class)
+	public IterableInterval<DoubleType> divide(
+		final IterableInterval<DoubleType> image, final double value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<DoubleType> result =
+			(IterableInterval<DoubleType>) ops().run(
+				net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.DivideFloat.class)
+	public IterableInterval<FloatType> divide(
+		final IterableInterval<FloatType> image, final float value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<FloatType> result =
+			(IterableInterval<FloatType>) ops().run(
+				net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.DivideInt.class,
+		net.imagej.ops.math.ConstantToCellImage.DivideUnsignedInt.class })
+	public <I extends GenericIntType<I>> IterableInterval<I> divide(
+		final IterableInterval<I> image, final int value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<I> result = (IterableInterval<I>) ops().run(
+			net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.DivideLong.class,
+		net.imagej.ops.math.ConstantToCellImage.DivideUnsignedLong.class })
+	public <N extends NativeType<N>> IterableInterval<N> divide(
+		final IterableInterval<N> image, final long value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<N> result = (IterableInterval<N>) ops().run(
+			net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.DivideShort.class,
+		net.imagej.ops.math.ConstantToCellImage.DivideUnsignedShort.class })
+	public <S extends GenericShortType<S>> IterableInterval<S> divide(
+		final IterableInterval<S> image, final short value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<S> result = (IterableInterval<S>) ops().run(
+			net.imagej.ops.Ops.Math.Divide.class, image, value);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Divide.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> divide(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -973,6 +1257,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.ExpDouble.class,
+		net.imagej.ops.math.NativeImgMath.ExpFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> exp(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Exp.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.ExpMinusOne.class)
 	public <I extends RealType<I>, O extends RealType<O>> O expMinusOne(
 		final O out, final I in)
@@ -983,6 +1278,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.ExpMinusOneDouble.class,
+		net.imagej.ops.math.NativeImgMath.ExpMinusOneFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> expMinusOne(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.ExpMinusOne.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleFloor.class)
 	public double floor(final double a) {
 		final double result = (Double) ops().run(
@@ -1000,6 +1306,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.FloorDouble.class,
+		net.imagej.ops.math.NativeImgMath.FloorFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> floor(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Floor.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.GammaConstant.class)
 	public <I extends RealType<I>, O extends RealType<O>> O gamma(final O out,
 		final I in, final double constant)
@@ -1050,6 +1367,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.LogDouble.class,
+		net.imagej.ops.math.NativeImgMath.LogFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> log(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Log.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLog10.class)
 	public double log10(final double a) {
 		final double result = (Double) ops().run(
@@ -1067,6 +1395,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.Log10Double.class,
+		net.imagej.ops.math.NativeImgMath.Log10Float.class })
+	public <T extends RealType<T>> IterableInterval<T> log10(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Log10.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Log2.class)
 	public <I extends RealType<I>, O extends RealType<O>> O log2(final O out,
 		final I in)
@@ -1076,6 +1415,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.Log2Double.class,
+		net.imagej.ops.math.NativeImgMath.Log2Float.class })
+	public <T extends RealType<T>> IterableInterval<T> log2(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Log2.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLogOnePlusX.class)
 	public double logOnePlusX(final double a) {
 		final double result = (Double) ops().run(
@@ -1093,6 +1443,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.LogOnePlusXDouble.class,
+		net.imagej.ops.math.NativeImgMath.LogOnePlusXFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> logOnePlusX(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.LogOnePlusX.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleMax.class)
 	public double max(final double a, final double b) {
 		final double result = (Double) ops().run(
@@ -1259,7 +1620,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.IIToIIOutputII.Multiply.class)
+	@OpMethod(ops = { net.imagej.ops.math.IIToIIOutputII.Multiply.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyByte.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyInt.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyLong.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyShort.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyFloat.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyDouble.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyUnsignedLong.class,
+		net.imagej.ops.math.NativeImgMath.MultiplyUnsignedShort.class })
 	public <T extends NumericType<T>> IterableInterval<T> multiply(
 		final IterableInterval<T> out, final IterableInterval<T> in1,
 		final IterableInterval<T> in2)
@@ -1416,6 +1787,72 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.MultiplyByte.class,
+		net.imagej.ops.math.ConstantToCellImage.MultiplyUnsignedByte.class })
+	public <B extends GenericByteType<B>> IterableInterval<B> multiply(
+		final IterableInterval<B> image, final byte value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<B> result = (IterableInterval<B>) ops().run(
+			net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.MultiplyDouble.class)
+	public IterableInterval<DoubleType> multiply(
+		final IterableInterval<DoubleType> image, final double value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<DoubleType> result =
+			(IterableInterval<DoubleType>) ops().run(
+				net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.MultiplyFloat.class)
+	public IterableInterval<FloatType> multiply(
+		final IterableInterval<FloatType> image, final float value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<FloatType> result =
+			(IterableInterval<FloatType>) ops().run(
+				net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.MultiplyInt.class,
+		net.imagej.ops.math.ConstantToCellImage.MultiplyUnsignedInt.class })
+	public <I extends GenericIntType<I>> IterableInterval<I> multiply(
+		final IterableInterval<I> image, final int value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<I> result = (IterableInterval<I>) ops().run(
+			net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.MultiplyLong.class,
+		net.imagej.ops.math.ConstantToCellImage.MultiplyUnsignedLong.class })
+	public <N extends NativeType<N>> IterableInterval<N> multiply(
+		final IterableInterval<N> image, final long value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<N> result = (IterableInterval<N>) ops().run(
+			net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.MultiplyShort.class,
+		net.imagej.ops.math.ConstantToCellImage.MultiplyUnsignedShort.class })
+	public <S extends GenericShortType<S>> IterableInterval<S> multiply(
+		final IterableInterval<S> image, final short value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<S> result = (IterableInterval<S>) ops().run(
+			net.imagej.ops.Ops.Math.Multiply.class, image, value);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Multiply.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> multiply(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -1456,6 +1893,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.NearestIntDouble.class,
+		net.imagej.ops.math.NativeImgMath.NearestIntFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> nearestInt(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.NearestInt.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleNegate.class)
 	public double negate(final double a) {
 		final double result = (Double) ops().run(
@@ -1494,6 +1942,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.NegateDouble.class,
+		net.imagej.ops.math.NativeImgMath.NegateFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> negate(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Negate.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerOr.class)
 	public int or(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -1652,6 +2111,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.RoundDouble.class,
+		net.imagej.ops.math.NativeImgMath.RoundFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> round(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Round.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sec.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sec(final O out,
 		final I in)
@@ -1661,6 +2131,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SecDouble.class,
+		net.imagej.ops.math.NativeImgMath.SecFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sec(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sec.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sech.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sech(final O out,
 		final I in)
@@ -1670,6 +2151,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SechDouble.class,
+		net.imagej.ops.math.NativeImgMath.SechFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sech(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sech.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSignum.class)
 	public double signum(final double a) {
 		final double result = (Double) ops().run(
@@ -1694,6 +2186,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SignumDouble.class,
+		net.imagej.ops.math.NativeImgMath.SignumFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> signum(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Signum.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSin.class)
 	public double sin(final double a) {
 		final double result = (Double) ops().run(
@@ -1710,6 +2213,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SinDouble.class,
+		net.imagej.ops.math.NativeImgMath.SinFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sin(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sin.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sinc.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sinc(final O out,
 		final I in)
@@ -1745,6 +2259,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SinhDouble.class,
+		net.imagej.ops.math.NativeImgMath.SinhFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sinh(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sinh.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sqr.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sqr(final O out,
 		final I in)
@@ -1754,6 +2279,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SqrDouble.class,
+		net.imagej.ops.math.NativeImgMath.SqrFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sqr(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sqr.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSqrt.class)
 	public double sqrt(final double a) {
 		final double result = (Double) ops().run(
@@ -1770,6 +2306,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.SqrtDouble.class,
+		net.imagej.ops.math.NativeImgMath.SqrtFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> sqrt(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Sqrt.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Step.class)
 	public <I extends RealType<I>, O extends RealType<O>> O step(final O out,
 		final I in)
@@ -1874,7 +2421,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.IIToIIOutputII.Subtract.class)
+	@OpMethod(ops = { net.imagej.ops.math.IIToIIOutputII.Subtract.class,
+		net.imagej.ops.math.NativeImgMath.SubtractByte.class,
+		net.imagej.ops.math.NativeImgMath.SubtractInt.class,
+		net.imagej.ops.math.NativeImgMath.SubtractLong.class,
+		net.imagej.ops.math.NativeImgMath.SubtractShort.class,
+		net.imagej.ops.math.NativeImgMath.SubtractFloat.class,
+		net.imagej.ops.math.NativeImgMath.SubtractDouble.class,
+		net.imagej.ops.math.NativeImgMath.SubtractUnsignedByte.class,
+		net.imagej.ops.math.NativeImgMath.SubtractUnsignedInt.class,
+		net.imagej.ops.math.NativeImgMath.SubtractUnsignedLong.class,
+		net.imagej.ops.math.NativeImgMath.SubtractUnsignedShort.class })
 	public <T extends NumericType<T>> IterableInterval<T> subtract(
 		final IterableInterval<T> out, final IterableInterval<T> in1,
 		final IterableInterval<T> in2)
@@ -2031,6 +2588,72 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.SubtractByte.class,
+		net.imagej.ops.math.ConstantToCellImage.SubtractUnsignedByte.class })
+	public <B extends GenericByteType<B>> IterableInterval<B> subtract(
+		final IterableInterval<B> image, final byte value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<B> result = (IterableInterval<B>) ops().run(
+			net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.SubtractDouble.class)
+	public IterableInterval<DoubleType> subtract(
+		final IterableInterval<DoubleType> image, final double value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<DoubleType> result =
+			(IterableInterval<DoubleType>) ops().run(
+				net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.ConstantToCellImage.SubtractFloat.class)
+	public IterableInterval<FloatType> subtract(
+		final IterableInterval<FloatType> image, final float value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<FloatType> result =
+			(IterableInterval<FloatType>) ops().run(
+				net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.SubtractInt.class,
+		net.imagej.ops.math.ConstantToCellImage.SubtractUnsignedInt.class })
+	public <I extends GenericIntType<I>> IterableInterval<I> subtract(
+		final IterableInterval<I> image, final int value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<I> result = (IterableInterval<I>) ops().run(
+			net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.SubtractLong.class,
+		net.imagej.ops.math.ConstantToCellImage.SubtractUnsignedLong.class })
+	public <N extends NativeType<N>> IterableInterval<N> subtract(
+		final IterableInterval<N> image, final long value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<N> result = (IterableInterval<N>) ops().run(
+			net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToCellImage.SubtractShort.class,
+		net.imagej.ops.math.ConstantToCellImage.SubtractUnsignedShort.class })
+	public <S extends GenericShortType<S>> IterableInterval<S> subtract(
+		final IterableInterval<S> image, final short value)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<S> result = (IterableInterval<S>) ops().run(
+			net.imagej.ops.Ops.Math.Subtract.class, image, value);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Subtract.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> subtract(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -2077,6 +2700,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.TanDouble.class,
+		net.imagej.ops.math.NativeImgMath.TanFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> tan(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Tan.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleTanh.class)
 	public double tanh(final double a) {
 		final double result = (Double) ops().run(net.imagej.ops.Ops.Math.Tanh.class,
@@ -2093,6 +2727,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.TanhDouble.class,
+		net.imagej.ops.math.NativeImgMath.TanhFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> tanh(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Tanh.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Ulp.class)
 	public <I extends RealType<I>, O extends RealType<O>> O ulp(final O out,
 		final I in)
@@ -2102,6 +2747,17 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.math.NativeImgMath.UlpDouble.class,
+		net.imagej.ops.math.NativeImgMath.UlpFloat.class })
+	public <T extends RealType<T>> IterableInterval<T> ulp(
+		final IterableInterval<T> out, final IterableInterval<T> in)
+	{
+		@SuppressWarnings("unchecked")
+		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
+			net.imagej.ops.Ops.Math.Ulp.class, out, in);
+		return result;
+	}
+
 	@OpMethod(
 		op = net.imagej.ops.math.PrimitiveMath.IntegerUnsignedRightShift.class)
 	public int unsignedRightShift(final int a, final int b) {
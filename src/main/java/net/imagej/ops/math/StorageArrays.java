@@ -0,0 +1,127 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.cell.AbstractCell;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.util.Intervals;
+
+/**
+ * Utility methods exposing the primitive storage arrays of {@link ArrayImg}s,
+ * {@link PlanarImg}s and {@link CellImg}s.
+ * <p>
+ * Images of the same layout, dimensions and (for {@link CellImg}s) cell
+ * dimensions store corresponding elements at the same position of
+ * corresponding arrays, which lets element-wise ops loop over the arrays
+ * directly.
+ * </p>
+ */
+public final class StorageArrays {
+
+	private StorageArrays() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Checks whether the given images are all {@link ArrayImg}s, all
+	 * {@link PlanarImg}s or all {@link CellImg}s with the same cell dimensions,
+	 * and have equal dimensions.
+	 */
+	public static boolean compatible(final IterableInterval<?>... imgs) {
+		final IterableInterval<?> first = imgs[0];
+		final Class<?> layout = layout(first);
+		if (layout == null) return false;
+		for (int i = 1; i < imgs.length; i++) {
+			if (layout(imgs[i]) != layout) return false;
+			if (!Intervals.equalDimensions(first, imgs[i])) return false;
+			if (layout == CellImg.class && !Arrays.equals(cellDimensions(first),
+				cellDimensions(imgs[i]))) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the storage arrays of the given image, in iteration order: the single
+	 * array of an {@link ArrayImg}, the planes of a {@link PlanarImg} or the
+	 * cells of a {@link CellImg}.
+	 */
+	public static List<Object> arrays(final IterableInterval<?> img) {
+		if (img instanceof ArrayImg) {
+			return Collections.singletonList(data(((ArrayImg<?, ?>) img).update(
+				null)));
+		}
+		final List<Object> arrays = new ArrayList<>();
+		if (img instanceof PlanarImg) {
+			final PlanarImg<?, ?> planarImg = (PlanarImg<?, ?>) img;
+			for (int i = 0; i < planarImg.numSlices(); i++) {
+				arrays.add(data(planarImg.getPlane(i)));
+			}
+		}
+		else {
+			final Cursor<? extends AbstractCell<?>> cells = ((CellImg<?, ?, ?>) img)
+				.getCells().cursor();
+			while (cells.hasNext()) {
+				arrays.add(data(cells.next().getData()));
+			}
+		}
+		return arrays;
+	}
+
+	// -- Helper methods --
+
+	private static Class<?> layout(final IterableInterval<?> img) {
+		if (img instanceof ArrayImg) return ArrayImg.class;
+		if (img instanceof PlanarImg) return PlanarImg.class;
+		if (img instanceof CellImg) return CellImg.class;
+		return null;
+	}
+
+	private static int[] cellDimensions(final IterableInterval<?> img) {
+		final int[] cellDims = new int[img.numDimensions()];
+		((CellImg<?, ?, ?>) img).getCells().cellDimensions(cellDims);
+		return cellDims;
+	}
+
+	private static Object data(final Object access) {
+		return ((ArrayDataAccess<?>) access).getCurrentStorageArray();
+	}
+
+}
@@ -33,6 +33,7 @@ package net.imagej.ops.math;
 import java.util.Random;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.kernel.Kernels;
 import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
@@ -59,12 +60,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Abs.class)
 	public static class Abs<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Abs
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Abs,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.abs(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.abs(a);
 		}
 	}
 
@@ -74,12 +81,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arccos.class)
 	public static class Arccos<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccos
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccos,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.acos(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.acos(a);
 		}
 	}
 
@@ -89,15 +102,20 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arccosh.class)
 	public static class Arccosh<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccosh
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccosh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			double delta = Math.sqrt(xt * xt - 1);
-			if (xt <= -1) delta = -delta;
-			output.setReal(Math.log(xt + delta));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			double delta = Math.sqrt(a * a - 1);
+			if (a <= -1) delta = -delta;
+			return Math.log(a + delta);
 		}
 	}
 
@@ -107,14 +125,20 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arccot.class)
 	public static class Arccot<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccot
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccot,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			double value = Math.atan(1.0 / input.getRealDouble());
-			if (input.getRealDouble() < 0) value += Math.PI;
-			output.setReal(value);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			double value = Math.atan(1.0 / a);
+			if (a < 0) value += Math.PI;
+			return value;
 		}
 	}
 
@@ -124,13 +148,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arccoth.class)
 	public static class Arccoth<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccoth
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccoth,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			output.setReal(0.5 * Math.log((xt + 1) / (xt - 1)));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 0.5 * Math.log((a + 1) / (a - 1));
 		}
 	}
 
@@ -170,14 +199,19 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arccsch.class)
 	public static class Arccsch<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccsch
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arccsch,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			final double delta = Math.sqrt(1 + (1 / (xt * xt)));
-			output.setReal(Math.log((1 / xt) + delta));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			final double delta = Math.sqrt(1 + (1 / (a * a)));
+			return Math.log((1 / a) + delta);
 		}
 	}
 
@@ -219,14 +253,19 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arcsech.class)
 	public static class Arcsech<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsech
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsech,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			final double numer = 1 + Math.sqrt(1 - xt * xt);
-			output.setReal(Math.log(numer / xt));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			final double numer = 1 + Math.sqrt(1 - a * a);
+			return Math.log(numer / a);
 		}
 	}
 
@@ -236,12 +275,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arcsin.class)
 	public static class Arcsin<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsin
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsin,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.asin(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.asin(a);
 		}
 	}
 
@@ -251,14 +296,19 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arcsinh.class)
 	public static class Arcsinh<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsinh
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arcsinh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			final double delta = Math.sqrt(xt * xt + 1);
-			output.setReal(Math.log(xt + delta));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			final double delta = Math.sqrt(a * a + 1);
+			return Math.log(a + delta);
 		}
 	}
 
@@ -268,12 +318,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arctan.class)
 	public static class Arctan<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arctan
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arctan,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.atan(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.atan(a);
 		}
 	}
 
@@ -283,13 +339,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Arctanh.class)
 	public static class Arctanh<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arctanh
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Arctanh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double xt = input.getRealDouble();
-			output.setReal(0.5 * Math.log((1 + xt) / (1 - xt)));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 0.5 * Math.log((1 + a) / (1 - a));
 		}
 	}
 
@@ -299,12 +360,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Ceil.class)
 	public static class Ceil<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Ceil
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Ceil,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.ceil(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.ceil(a);
 		}
 	}
 
@@ -314,12 +381,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Cos.class)
 	public static class Cos<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cos
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cos,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.cos(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.cos(a);
 		}
 	}
 
@@ -329,12 +402,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Cosh.class)
 	public static class Cosh<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cosh
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cosh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.cosh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.cosh(a);
 		}
 	}
 
@@ -344,12 +423,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Cot.class)
 	public static class Cot<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cot
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Cot,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.tan(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.tan(a);
 		}
 	}
 
@@ -359,12 +444,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Coth.class)
 	public static class Coth<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Coth
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Coth,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.tanh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.tanh(a);
 		}
 	}
 
@@ -374,12 +465,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Csc.class)
 	public static class Csc<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Csc
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Csc,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.sin(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.sin(a);
 		}
 	}
 
@@ -389,12 +486,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Csch.class)
 	public static class Csch<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Csch
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Csch,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.sinh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.sinh(a);
 		}
 	}
 
@@ -404,12 +507,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.CubeRoot.class)
 	public static class CubeRoot<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.CubeRoot
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.CubeRoot,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.cbrt(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.cbrt(a);
 		}
 	}
 
@@ -419,12 +528,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Exp.class)
 	public static class Exp<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Exp
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Exp,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.exp(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.exp(a);
 		}
 	}
 
@@ -434,12 +549,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.ExpMinusOne.class)
 	public static class ExpMinusOne<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.ExpMinusOne
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.ExpMinusOne,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.exp(input.getRealDouble()) - 1);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.exp(a) - 1;
 		}
 	}
 
@@ -449,12 +570,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Floor.class)
 	public static class Floor<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Floor
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Floor,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.floor(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.floor(a);
 		}
 	}
 
@@ -464,7 +591,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Gamma.class)
 	public static class GammaConstant<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Gamma
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Gamma,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -472,11 +600,13 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double inputVal = input.getRealDouble();
-			if (inputVal <= 0) output.setReal(0);
-			else {
-				output.setReal(Math.exp(this.constant * Math.log(inputVal)));
-			}
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a <= 0) return 0;
+			return Math.exp(this.constant * Math.log(a));
 		}
 	}
 
@@ -486,7 +616,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Invert.class)
 	public static class Invert<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Invert
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Invert,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -496,7 +627,12 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(specifiedMax - (input.getRealDouble() - specifiedMin));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return specifiedMax - (a - specifiedMin);
 		}
 	}
 
@@ -506,12 +642,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Log.class)
 	public static class Log<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Log
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Log,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.log(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.log(a);
 		}
 	}
 
@@ -521,12 +663,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Log10.class)
 	public static class Log10<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Log10
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Log10,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.log10(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.log10(a);
 		}
 	}
 
@@ -536,12 +684,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Log2.class)
 	public static class Log2<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Log2
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Log2,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.log(input.getRealDouble()) / Math.log(2));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.log(a) / Math.log(2);
 		}
 	}
 
@@ -552,12 +706,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.LogOnePlusX.class)
 	public static class LogOnePlusX<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.LogOnePlusX
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.LogOnePlusX,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.log1p(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.log1p(a);
 		}
 	}
 
@@ -568,7 +728,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Max.class)
 	public static class MaxConstant<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Max
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Max,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -576,9 +737,13 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double value = input.getRealDouble();
-			if (value < constant) output.setReal(value);
-			else output.setReal(constant);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a < constant) return a;
+			return constant;
 		}
 	}
 
@@ -590,7 +755,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Min.class)
 	public static class MinConstant<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Min
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Min,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -598,9 +764,13 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double value = input.getRealDouble();
-			if (value > constant) output.setReal(value);
-			else output.setReal(constant);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a > constant) return a;
+			return constant;
 		}
 	}
 
@@ -610,12 +780,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.NearestInt.class)
 	public static class NearestInt<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.NearestInt
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.NearestInt,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.rint(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.rint(a);
 		}
 	}
 
@@ -625,12 +801,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Negate.class)
 	public static class Negate<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Negate
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Negate,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(-input.getRealDouble());
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return -a;
 		}
 	}
 
@@ -640,7 +822,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Power.class)
 	public static class PowerConstant<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Power
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Power,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -648,7 +831,12 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.pow(input.getRealDouble(), constant));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.pow(a, constant);
 		}
 	}
 
@@ -719,7 +907,8 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Reciprocal.class)
 	public static class Reciprocal<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Reciprocal
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Reciprocal,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Parameter
@@ -727,9 +916,13 @@ public final class UnaryRealTypeMath {
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double inputVal = input.getRealDouble();
-			if (inputVal == 0) output.setReal(dbzVal);
-			else output.setReal(1.0 / inputVal);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a == 0) return dbzVal;
+			return 1.0 / a;
 		}
 	}
 
@@ -739,12 +932,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Round.class)
 	public static class Round<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Round
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Round,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal((double) Math.round(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return (double) Math.round(a);
 		}
 	}
 
@@ -754,12 +953,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sec.class)
 	public static class Sec<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sec
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sec,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.cos(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.cos(a);
 		}
 	}
 
@@ -769,12 +974,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sech.class)
 	public static class Sech<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sech
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sech,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(1.0 / Math.cosh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return 1.0 / Math.cosh(a);
 		}
 	}
 
@@ -786,12 +997,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Signum.class)
 	public static class Signum<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Signum
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.Signum,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.signum(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.signum(a);
 		}
 	}
 
@@ -801,12 +1018,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sin.class)
 	public static class Sin<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sin
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sin,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.sin(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.sin(a);
 		}
 	}
 
@@ -817,16 +1040,19 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sinc.class)
 	public static class Sinc<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sinc
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sinc,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double x = input.getRealDouble();
-			double value;
-			if (x == 0) value = 1;
-			else value = Math.sin(x) / x;
-			output.setReal(value);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a == 0) return 1;
+			return Math.sin(a) / a;
 		}
 	}
 
@@ -837,16 +1063,19 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.SincPi.class)
 	public static class SincPi<I extends RealType<I>, O extends RealType<O>>
-		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.SincPi
+		extends AbstractUnaryComputerOp<I, O> implements Ops.Math.SincPi,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double x = input.getRealDouble();
-			double value;
-			if (x == 0) value = 1;
-			else value = Math.sin(Math.PI * x) / (Math.PI * x);
-			output.setReal(value);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			if (a == 0) return 1;
+			return Math.sin(Math.PI * a) / (Math.PI * a);
 		}
 	}
 
@@ -856,12 +1085,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sinh.class)
 	public static class Sinh<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sinh
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sinh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.sinh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.sinh(a);
 		}
 	}
 
@@ -871,13 +1106,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sqr.class)
 	public static class Sqr<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sqr
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sqr,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			final double value = input.getRealDouble();
-			output.setReal(value * value);
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return a * a;
 		}
 	}
 
@@ -887,12 +1127,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Sqrt.class)
 	public static class Sqrt<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sqrt
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Sqrt,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.sqrt(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.sqrt(a);
 		}
 	}
 
@@ -920,12 +1166,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Tan.class)
 	public static class Tan<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Tan
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Tan,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.tan(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.tan(a);
 		}
 	}
 
@@ -935,12 +1187,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Tanh.class)
 	public static class Tanh<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Tanh
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Tanh,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.tanh(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.tanh(a);
 		}
 	}
 
@@ -952,12 +1210,18 @@ public final class UnaryRealTypeMath {
 	 */
 	@Plugin(type = Ops.Math.Ulp.class)
 	public static class Ulp<I extends RealType<I>, O extends RealType<O>> extends
-		AbstractUnaryComputerOp<I, O> implements Ops.Math.Ulp
+		AbstractUnaryComputerOp<I, O> implements Ops.Math.Ulp,
+		Kernels.DoubleUnaryKernel
 	{
 
 		@Override
 		public void compute1(final I input, final O output) {
-			output.setReal(Math.ulp(input.getRealDouble()));
+			output.setReal(compute(input.getRealDouble()));
+		}
+
+		@Override
+		public double compute(final double a) {
+			return Math.ulp(a);
 		}
 	}
 
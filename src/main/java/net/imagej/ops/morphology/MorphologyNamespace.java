@@ -99,7 +99,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final RandomAccessibleInterval<T> in1, final Shape in2)
 	{
@@ -109,7 +110,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2)
@@ -120,7 +122,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull)
@@ -131,7 +134,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull,
@@ -175,7 +179,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final RandomAccessibleInterval<T> in1, final Shape in2)
 	{
@@ -185,7 +190,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2)
@@ -196,7 +202,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull)
@@ -207,7 +214,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull,
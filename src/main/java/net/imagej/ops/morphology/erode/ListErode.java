@@ -30,6 +30,7 @@
 
 package net.imagej.ops.morphology.erode;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.imagej.ops.Contingent;
@@ -76,7 +77,7 @@ public class ListErode<T extends RealType<T>> extends
 	private T maxVal;
 	private UnaryFunctionOp<Interval, Img<T>> imgCreator;
 	private UnaryComputerOp<IterableInterval<T>, IterableInterval<T>> copyImg;
-	private BinaryComputerOp<RandomAccessibleInterval<T>, Shape, IterableInterval<T>> erodeComputer;
+	private List<BinaryComputerOp<RandomAccessibleInterval<T>, Shape, IterableInterval<T>>> erodeComputers;
 
 	@Override
 	public boolean conforms() {
@@ -97,9 +98,7 @@ public class ListErode<T extends RealType<T>> extends
 			Ops.Copy.IterableInterval.class, IterableInterval.class, Views.iterable(
 				in1()));
 
-		erodeComputer = (BinaryComputerOp) Computers.unary(ops(),
-			Ops.Morphology.Erode.class, IterableInterval.class, in1(), in2().get(0),
-			false);
+		erodeComputers = erodeComputers(in2());
 	}
 
 	@Override
@@ -123,7 +122,10 @@ public class ListErode<T extends RealType<T>> extends
 		Img<T> downstream = imgCreator.compute1(interval);
 		Img<T> tmp;
 
-		erodeComputer.compute2(in1, in2.get(0), Views.translate(downstream,
+		// NB: Only match again if the shapes differ from the initial ones.
+		final List<BinaryComputerOp<RandomAccessibleInterval<T>, Shape, IterableInterval<T>>> computers =
+			in2 == in2() ? erodeComputers : erodeComputers(in2);
+		computers.get(0).compute2(in1, in2.get(0), Views.translate(downstream,
 			minSize[0]));
 		for (int i = 1; i < in2.size(); i++) {
 			// Ping-ponging intermediate results between upstream and downstream to
@@ -131,11 +133,28 @@ public class ListErode<T extends RealType<T>> extends
 			tmp = downstream;
 			downstream = upstream;
 			upstream = tmp;
-			erodeComputer.compute2(Views.interval(Views.extendValue(upstream, maxVal),
-				interval), in2.get(i), downstream);
+			computers.get(i).compute2(Views.interval(Views.extendValue(
+				upstream, maxVal), interval), in2.get(i), downstream);
 		}
 		if (isFull) copyImg.compute1(downstream, out);
 		else copyImg.compute1(Views.interval(Views.translate(downstream,
 			minSize[0]), out), out);
 	}
+
+	/**
+	 * Gets one erosion computer for each {@link Shape}. They are matched per
+	 * shape, so that shape-specific implementations apply to each of them.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private List<BinaryComputerOp<RandomAccessibleInterval<T>, Shape, IterableInterval<T>>>
+		erodeComputers(final List<Shape> shapes)
+	{
+		final List<BinaryComputerOp<RandomAccessibleInterval<T>, Shape, IterableInterval<T>>> computers =
+			new ArrayList<>(shapes.size());
+		for (final Shape shape : shapes) {
+			computers.add((BinaryComputerOp) Computers.unary(ops(),
+				Ops.Morphology.Erode.class, IterableInterval.class, in1(), shape, false));
+		}
+		return computers;
+	}
 }
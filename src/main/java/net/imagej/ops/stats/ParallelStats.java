@@ -0,0 +1,541 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import java.util.function.Supplier;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.cached.CachedOpEnvironment;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imagej.ops.thread.chunker.ReducingChunk;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Pair;
+import net.imglib2.util.ValuePair;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Statistics ops which reduce large {@link IterableInterval}s in parallel.
+ * <p>
+ * The {@link ChunkerOp} splits the input into chunks, each of which is
+ * accumulated into its own {@link StatsAccumulator}; the partial accumulators
+ * are then merged into the result. Inputs with fewer than {@link #MIN_SIZE}
+ * elements are left to the sequential ops, as are inputs within a
+ * {@link CachedOpEnvironment}, where the statistics share the (parallel)
+ * {@code stats.summary} of the input instead.
+ * </p>
+ *
+ * @see ReducingChunk
+ */
+public final class ParallelStats {
+
+	/** The minimum number of elements for which the parallel ops apply. */
+	public static final long MIN_SIZE = 1 << 16;
+
+	private ParallelStats() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Reduces the values of the given interval to an accumulator, in parallel.
+	 *
+	 * @param ops environment in which to run the {@link ChunkerOp}
+	 * @param input values to accumulate
+	 * @param factory creates the empty accumulators of the chunks
+	 * @return the merged accumulator of all values
+	 */
+	public static <I extends RealType<I>, A extends StatsAccumulator<A>> A
+		reduce(final OpEnvironment ops, final IterableInterval<I> input,
+			final Supplier<A> factory)
+	{
+		final ReducingChunk<A> chunk = new ReducingChunk<A>() {
+
+			@Override
+			protected A createPartial() {
+				return factory.get();
+			}
+
+			@Override
+			protected void accumulate(final A partial, final int startIndex,
+				final int stepSize, final int numSteps)
+			{
+				final Cursor<I> cursor = input.cursor();
+				CursorBasedChunk.setToStart(cursor, startIndex);
+				for (int i = 0; i < numSteps; i++) {
+					if (i > 0) cursor.jumpFwd(stepSize);
+					partial.add(cursor.get().getRealDouble());
+				}
+			}
+
+			@Override
+			protected void merge(final A result, final A partial) {
+				result.merge(partial);
+			}
+		};
+		ops.run(ChunkerOp.class, chunk, input.size());
+		return chunk.getResult();
+	}
+
+	@Plugin(type = Ops.Stats.GeometricMean.class, label = "Statistics: GeometricMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class GeometricMean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.GeometricMean
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getGeometricMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.HarmonicMean.class, label = "Statistics: HarmonicMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class HarmonicMean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.HarmonicMean
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getHarmonicMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Kurtosis.class, label = "Statistics: Kurtosis",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Kurtosis<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.Kurtosis
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getKurtosis();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Max.class, label = "Statistics: Max",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Max<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Extrema> implements Ops.Stats.Max
+	{
+
+		@Override
+		protected Extrema createAccumulator() {
+			return new Extrema();
+		}
+
+		@Override
+		protected double value(final Extrema acc) {
+			return acc.max;
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Mean.class, label = "Statistics: Mean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Mean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Sums> implements Ops.Stats.Mean
+	{
+
+		@Override
+		protected Sums createAccumulator() {
+			return new Sums();
+		}
+
+		@Override
+		protected double value(final Sums acc) {
+			return acc.sum / acc.count;
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Min.class, label = "Statistics: Min",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Min<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Extrema> implements Ops.Stats.Min
+	{
+
+		@Override
+		protected Extrema createAccumulator() {
+			return new Extrema();
+		}
+
+		@Override
+		protected double value(final Extrema acc) {
+			return acc.min;
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment2AboutMean.class, label = "Statistics: Moment2AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Moment2AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Moments> implements Ops.Stats.Moment2AboutMean
+	{
+
+		@Override
+		protected Moments createAccumulator() {
+			return new Moments();
+		}
+
+		@Override
+		protected double value(final Moments acc) {
+			return acc.m2 / acc.count;
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment3AboutMean.class, label = "Statistics: Moment3AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Moment3AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.Moment3AboutMean
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getMoment3AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment4AboutMean.class, label = "Statistics: Moment4AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Moment4AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.Moment4AboutMean
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getMoment4AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Skewness.class, label = "Statistics: Skewness",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Skewness<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.Skewness
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getSkewness();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.StdDev.class, label = "Statistics: Standard Deviation",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class StdDev<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Moments> implements Ops.Stats.StdDev
+	{
+
+		@Override
+		protected Moments createAccumulator() {
+			return new Moments();
+		}
+
+		@Override
+		protected double value(final Moments acc) {
+			return Math.sqrt(acc.variance());
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Sum.class, label = "Statistics: Sum",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Sum<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Sums> implements Ops.Stats.Sum
+	{
+
+		@Override
+		protected Sums createAccumulator() {
+			return new Sums();
+		}
+
+		@Override
+		protected double value(final Sums acc) {
+			return acc.sum;
+		}
+	}
+
+	@Plugin(type = Ops.Stats.SumOfInverses.class, label = "Statistics: Sum Of Inverses",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class SumOfInverses<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.SumOfInverses
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getSumOfInverses();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.SumOfLogs.class, label = "Statistics: Sum Of Logs",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class SumOfLogs<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.SumOfLogs
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getSumOfLogs();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.SumOfSquares.class, label = "Statistics: Sum Of Squares",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class SumOfSquares<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, StatsSummary> implements Ops.Stats.SumOfSquares
+	{
+
+		@Override
+		protected StatsSummary createAccumulator() {
+			return new StatsSummary();
+		}
+
+		@Override
+		protected double value(final StatsSummary acc) {
+			return acc.getSumOfSquares();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Variance.class, label = "Statistics: Variance",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Variance<I extends RealType<I>, O extends RealType<O>>
+		extends ParallelStatsOp<I, O, Moments> implements Ops.Stats.Variance
+	{
+
+		@Override
+		protected Moments createAccumulator() {
+			return new Moments();
+		}
+
+		@Override
+		protected double value(final Moments acc) {
+			return acc.variance();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.MinMax.class, label = "Statistics: MinMax",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class MinMax<I extends RealType<I>> extends
+		AbstractUnaryFunctionOp<Iterable<I>, Pair<I, I>> implements
+		Ops.Stats.MinMax, Contingent, Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return applies(in()) && !(ops() instanceof CachedOpEnvironment);
+		}
+
+		@Override
+		public Pair<I, I> compute1(final Iterable<I> input) {
+			final Extrema acc = reduce(ops(), (IterableInterval<I>) input,
+				Extrema::new);
+
+			final I min = input.iterator().next().createVariable();
+			min.setReal(acc.min);
+
+			final I max = input.iterator().next().createVariable();
+			max.setReal(acc.max);
+
+			return new ValuePair<>(min, max);
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Summary.class, label = "Statistics: Summary",
+		priority = Priority.VERY_HIGH_PRIORITY + 2)
+	public static class Summary<I extends RealType<I>> extends
+		AbstractUnaryFunctionOp<Iterable<I>, StatsSummary> implements
+		Ops.Stats.Summary, Contingent, Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return applies(in());
+		}
+
+		@Override
+		public StatsSummary compute1(final Iterable<I> input) {
+			return reduce(ops(), (IterableInterval<I>) input, StatsSummary::new);
+		}
+	}
+
+	// -- Accumulators --
+
+	/** Accumulates the number and sum of values. */
+	public static class Sums implements StatsAccumulator<Sums> {
+
+		private long count;
+
+		private double sum;
+
+		@Override
+		public void add(final double value) {
+			count++;
+			sum += value;
+		}
+
+		@Override
+		public void merge(final Sums other) {
+			count += other.count;
+			sum += other.sum;
+		}
+	}
+
+	/** Accumulates the smallest and largest value. */
+	public static class Extrema implements StatsAccumulator<Extrema> {
+
+		private double min = Double.POSITIVE_INFINITY;
+
+		private double max = Double.NEGATIVE_INFINITY;
+
+		@Override
+		public void add(final double value) {
+			if (min > value) min = value;
+			if (max < value) max = value;
+		}
+
+		@Override
+		public void merge(final Extrema other) {
+			min = Math.min(min, other.min);
+			max = Math.max(max, other.max);
+		}
+	}
+
+	/**
+	 * Accumulates the mean and the sum of squared deviations from it, merged
+	 * with the pairwise formula of Chan et al.
+	 */
+	public static class Moments implements StatsAccumulator<Moments> {
+
+		private long count;
+
+		private double mean;
+
+		private double m2;
+
+		@Override
+		public void add(final double value) {
+			count++;
+			final double delta = value - mean;
+			mean += delta / count;
+			m2 += delta * (value - mean);
+		}
+
+		@Override
+		public void merge(final Moments other) {
+			if (other.count == 0) return;
+			final double na = count, nb = other.count, n = na + nb;
+			final double delta = other.mean - mean;
+			count += other.count;
+			mean += delta * nb / n;
+			m2 += other.m2 + delta * delta * na * nb / n;
+		}
+
+		private double variance() {
+			return count < 2 ? Double.NaN : m2 / (count - 1);
+		}
+	}
+
+	// -- Helper methods --
+
+	private static boolean applies(final Iterable<?> input) {
+		if (!(input instanceof IterableInterval)) return false;
+		final long size = ((IterableInterval<?>) input).size();
+		return size >= MIN_SIZE && size <= Integer.MAX_VALUE;
+	}
+
+	// -- Helper classes --
+
+	private abstract static class ParallelStatsOp<I extends RealType<I>, O extends RealType<O>, A extends StatsAccumulator<A>>
+		extends AbstractStatsOp<Iterable<I>, O> implements Contingent, Parallel
+	{
+
+		@Override
+		public boolean conforms() {
+			return applies(in()) && !(ops() instanceof CachedOpEnvironment);
+		}
+
+		@Override
+		public void compute1(final Iterable<I> input, final O output) {
+			output.setReal(value(reduce(ops(), (IterableInterval<I>) input,
+				this::createAccumulator)));
+		}
+
+		/** Creates an empty accumulator. */
+		protected abstract A createAccumulator();
+
+		/** Gets the statistic from the accumulated values. */
+		protected abstract double value(A acc);
+	}
+
+}
@@ -51,7 +51,8 @@ import org.scijava.plugin.Plugin;
 public class StatsNamespace extends AbstractNamespace {
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableGeometricMean.class,
-		net.imagej.ops.stats.DefaultGeometricMean.class })
+		net.imagej.ops.stats.DefaultGeometricMean.class,
+		net.imagej.ops.stats.ParallelStats.GeometricMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O geometricMean(
 		final Iterable<T> in)
 	{
@@ -61,7 +62,8 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableGeometricMean.class,
-		net.imagej.ops.stats.DefaultGeometricMean.class })
+		net.imagej.ops.stats.DefaultGeometricMean.class,
+		net.imagej.ops.stats.ParallelStats.GeometricMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O geometricMean(
 		final O out, final Iterable<T> in)
 	{
@@ -71,7 +73,8 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableHarmonicMean.class,
-		net.imagej.ops.stats.DefaultHarmonicMean.class })
+		net.imagej.ops.stats.DefaultHarmonicMean.class,
+		net.imagej.ops.stats.ParallelStats.HarmonicMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O harmonicMean(
 		final Iterable<T> in)
 	{
@@ -81,7 +84,8 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableHarmonicMean.class,
-		net.imagej.ops.stats.DefaultHarmonicMean.class })
+		net.imagej.ops.stats.DefaultHarmonicMean.class,
+		net.imagej.ops.stats.ParallelStats.HarmonicMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O harmonicMean(
 		final O out, final Iterable<T> in)
 	{
@@ -90,7 +94,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultKurtosis.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultKurtosis.class,
+		net.imagej.ops.stats.SummaryStats.Kurtosis.class,
+		net.imagej.ops.stats.ParallelStats.Kurtosis.class })
 	public <T extends RealType<T>, O extends RealType<O>> O kurtosis(
 		final Iterable<T> in)
 	{
@@ -99,7 +105,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultKurtosis.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultKurtosis.class,
+		net.imagej.ops.stats.SummaryStats.Kurtosis.class,
+		net.imagej.ops.stats.ParallelStats.Kurtosis.class })
 	public <T extends RealType<T>, O extends RealType<O>> O kurtosis(final O out,
 		final Iterable<T> in)
 	{
@@ -108,7 +116,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.IterableMax.class)
+	@OpMethod(ops = { net.imagej.ops.stats.IterableMax.class,
+		net.imagej.ops.stats.ParallelStats.Max.class })
 	public <T extends RealType<T>, O extends RealType<O>> O max(
 		final Iterable<T> in)
 	{
@@ -116,7 +125,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.IterableMax.class)
+	@OpMethod(ops = { net.imagej.ops.stats.IterableMax.class,
+		net.imagej.ops.stats.ParallelStats.Max.class })
 	public <T extends RealType<T>, O extends RealType<O>> O max(final O out,
 		final Iterable<T> in)
 	{
@@ -125,7 +135,9 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableMean.class,
-		net.imagej.ops.stats.DefaultMean.class })
+		net.imagej.ops.stats.DefaultMean.class,
+		net.imagej.ops.stats.SummaryStats.Mean.class,
+		net.imagej.ops.stats.ParallelStats.Mean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O mean(
 		final Iterable<T> in)
 	{
@@ -134,7 +146,9 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableMean.class,
-		net.imagej.ops.stats.DefaultMean.class })
+		net.imagej.ops.stats.DefaultMean.class,
+		net.imagej.ops.stats.SummaryStats.Mean.class,
+		net.imagej.ops.stats.ParallelStats.Mean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O mean(final O out,
 		final Iterable<T> in)
 	{
@@ -161,7 +175,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.IterableMin.class)
+	@OpMethod(ops = { net.imagej.ops.stats.IterableMin.class,
+		net.imagej.ops.stats.ParallelStats.Min.class })
 	public <T extends RealType<T>, O extends RealType<O>> O min(
 		final Iterable<T> in)
 	{
@@ -169,7 +184,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.IterableMin.class)
+	@OpMethod(ops = { net.imagej.ops.stats.IterableMin.class,
+		net.imagej.ops.stats.ParallelStats.Min.class })
 	public <T extends RealType<T>, O extends RealType<O>> O min(final O out,
 		final Iterable<T> in)
 	{
@@ -178,14 +194,16 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMinMax.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMinMax.class,
+		net.imagej.ops.stats.ParallelStats.MinMax.class })
 	public <T extends RealType<T>> Pair<T,T> minMax(final Iterable<T> in) {
 		final Pair<T,T> result =
 			(Pair<T,T>) ops().run(net.imagej.ops.Ops.Stats.MinMax.class, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment1AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment1AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment1AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		final Iterable<T> in)
 	{
@@ -194,7 +212,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment1AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment1AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment1AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment1AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -204,7 +223,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment2AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment2AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment2AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment2AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		final Iterable<T> in)
 	{
@@ -213,7 +234,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment2AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment2AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment2AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment2AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment2AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -223,7 +246,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment3AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment3AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment3AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment3AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		final Iterable<T> in)
 	{
@@ -232,7 +257,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment3AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment3AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment3AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment3AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment3AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -242,7 +269,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment4AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment4AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment4AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment4AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		final Iterable<T> in)
 	{
@@ -251,7 +280,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultMoment4AboutMean.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultMoment4AboutMean.class,
+		net.imagej.ops.stats.SummaryStats.Moment4AboutMean.class,
+		net.imagej.ops.stats.ParallelStats.Moment4AboutMean.class })
 	public <T extends RealType<T>, O extends RealType<O>> O moment4AboutMean(
 		final O out, final Iterable<T> in)
 	{
@@ -328,7 +359,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSkewness.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSkewness.class,
+		net.imagej.ops.stats.SummaryStats.Skewness.class,
+		net.imagej.ops.stats.ParallelStats.Skewness.class })
 	public <T extends RealType<T>, O extends RealType<O>> O skewness(
 		final Iterable<T> in)
 	{
@@ -337,7 +370,9 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSkewness.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSkewness.class,
+		net.imagej.ops.stats.SummaryStats.Skewness.class,
+		net.imagej.ops.stats.ParallelStats.Skewness.class })
 	public <T extends RealType<T>, O extends RealType<O>> O skewness(final O out,
 		final Iterable<T> in)
 	{
@@ -347,7 +382,9 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableStandardDeviation.class,
-		net.imagej.ops.stats.DefaultStandardDeviation.class })
+		net.imagej.ops.stats.DefaultStandardDeviation.class,
+		net.imagej.ops.stats.SummaryStats.StdDev.class,
+		net.imagej.ops.stats.ParallelStats.StdDev.class })
 	public <T extends RealType<T>, O extends RealType<O>> O stdDev(
 		final Iterable<T> in)
 	{
@@ -356,7 +393,9 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.IterableStandardDeviation.class,
-		net.imagej.ops.stats.DefaultStandardDeviation.class })
+		net.imagej.ops.stats.DefaultStandardDeviation.class,
+		net.imagej.ops.stats.SummaryStats.StdDev.class,
+		net.imagej.ops.stats.ParallelStats.StdDev.class })
 	public <T extends RealType<T>, O extends RealType<O>> O stdDev(final O out,
 		final Iterable<T> in)
 	{
@@ -365,7 +404,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSum.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSum.class,
+		net.imagej.ops.stats.ParallelStats.Sum.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sum(
 		final Iterable<T> in)
 	{
@@ -373,7 +413,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSum.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSum.class,
+		net.imagej.ops.stats.ParallelStats.Sum.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sum(final O out,
 		final Iterable<T> in)
 	{
@@ -382,7 +423,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfInverses.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfInverses.class,
+		net.imagej.ops.stats.ParallelStats.SumOfInverses.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfInverses(
 		final Iterable<T> in)
 	{
@@ -391,7 +433,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfInverses.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfInverses.class,
+		net.imagej.ops.stats.ParallelStats.SumOfInverses.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfInverses(
 		final O out, final Iterable<T> in)
 	{
@@ -400,7 +443,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfLogs.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfLogs.class,
+		net.imagej.ops.stats.ParallelStats.SumOfLogs.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfLogs(
 		final Iterable<T> in)
 	{
@@ -409,7 +453,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfLogs.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfLogs.class,
+		net.imagej.ops.stats.ParallelStats.SumOfLogs.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfLogs(
 		final O out, final Iterable<T> in)
 	{
@@ -418,7 +463,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfSquares.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfSquares.class,
+		net.imagej.ops.stats.ParallelStats.SumOfSquares.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfSquares(
 		final Iterable<T> in)
 	{
@@ -427,7 +473,8 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.stats.DefaultSumOfSquares.class)
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSumOfSquares.class,
+		net.imagej.ops.stats.ParallelStats.SumOfSquares.class })
 	public <T extends RealType<T>, O extends RealType<O>> O sumOfSquares(
 		final O out, final Iterable<T> in)
 	{
@@ -436,8 +483,18 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = { net.imagej.ops.stats.DefaultSummary.class,
+		net.imagej.ops.stats.ParallelStats.Summary.class })
+	public <T extends RealType<T>> StatsSummary summary(final Iterable<T> in) {
+		final StatsSummary result =
+			(StatsSummary) ops().run(net.imagej.ops.Ops.Stats.Summary.class, in);
+		return result;
+	}
+
 	@OpMethod(ops = { net.imagej.ops.stats.DefaultVariance.class,
-		net.imagej.ops.stats.IterableVariance.class })
+		net.imagej.ops.stats.IterableVariance.class,
+		net.imagej.ops.stats.SummaryStats.Variance.class,
+		net.imagej.ops.stats.ParallelStats.Variance.class })
 	public <T extends RealType<T>, O extends RealType<O>> O variance(
 		final Iterable<T> in)
 	{
@@ -446,7 +503,9 @@ public class StatsNamespace extends AbstractNamespace {
 	}
 
 	@OpMethod(ops = { net.imagej.ops.stats.DefaultVariance.class,
-		net.imagej.ops.stats.IterableVariance.class })
+		net.imagej.ops.stats.IterableVariance.class,
+		net.imagej.ops.stats.SummaryStats.Variance.class,
+		net.imagej.ops.stats.ParallelStats.Variance.class })
 	public <T extends RealType<T>, O extends RealType<O>> O variance(final O out,
 		final Iterable<T> in)
 	{
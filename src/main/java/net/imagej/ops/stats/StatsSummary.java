@@ -0,0 +1,236 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+/**
+ * Summary statistics of a sequence of values, accumulated in a single
+ * streaming pass.
+ * <p>
+ * The central moments are updated with the numerically stable online
+ * algorithm of Welford, as extended to the third and fourth moments by
+ * Terriberry, so no second pass over the values is needed to subtract the
+ * mean.
+ * </p>
+ * <p>
+ * The derived statistics follow the conventions of the corresponding
+ * {@code stats} ops: e.g. {@link #getVariance()} is the sample variance, and
+ * {@link #getSkewness()} and {@link #getKurtosis()} divide the central moments
+ * by powers of {@link #getStdDev()}.
+ * </p>
+ * <p>
+ * Summaries of disjoint parts of the values can be merged with the pairwise
+ * formulas of Chan et al., as generalized to higher moments by P&eacute;bay.
+ * </p>
+ *
+ * @see <a href=
+ *      "https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Higher-order_statistics">
+ *      Wikipedia</a>
+ */
+public class StatsSummary implements StatsAccumulator<StatsSummary> {
+
+	private long count;
+
+	private double min = Double.POSITIVE_INFINITY;
+
+	private double max = Double.NEGATIVE_INFINITY;
+
+	private double sum;
+
+	private double sumOfSquares;
+
+	private double sumOfLogs;
+
+	private double sumOfInverses;
+
+	private double mean;
+
+	/** Sums of the second, third and fourth powers of deviations from mean. */
+	private double m2, m3, m4;
+
+	// -- StatsAccumulator methods --
+
+	@Override
+	public void add(final double x) {
+		final double n = ++count;
+		final double n1 = n - 1;
+
+		if (x < min) min = x;
+		if (x > max) max = x;
+		sum += x;
+		sumOfSquares += x * x;
+		sumOfLogs += Math.log(x);
+		sumOfInverses += 1.0 / x;
+
+		final double delta = x - mean;
+		final double deltaN = delta / n;
+		final double deltaN2 = deltaN * deltaN;
+		final double term = delta * deltaN * n1;
+		mean += deltaN;
+		m4 += term * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 *
+			deltaN * m3;
+		m3 += term * deltaN * (n - 2) - 3 * deltaN * m2;
+		m2 += term;
+	}
+
+	@Override
+	public void merge(final StatsSummary other) {
+		if (other.count == 0) return;
+		if (count == 0) {
+			copy(other);
+			return;
+		}
+		final double na = count, nb = other.count, n = na + nb;
+		final double delta = other.mean - mean;
+		final double delta2 = delta * delta;
+		final double nab = na * nb;
+
+		count += other.count;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		sum += other.sum;
+		sumOfSquares += other.sumOfSquares;
+		sumOfLogs += other.sumOfLogs;
+		sumOfInverses += other.sumOfInverses;
+
+		mean += delta * nb / n;
+		m4 += other.m4 + delta2 * delta2 * nab * (na * na - nab + nb * nb) /
+			(n * n * n) + 6 * delta2 * (na * na * other.m2 + nb * nb * m2) /
+				(n * n) + 4 * delta * (na * other.m3 - nb * m3) / n;
+		m3 += other.m3 + delta2 * delta * nab * (na - nb) / (n * n) + 3 * delta *
+			(na * other.m2 - nb * m2) / n;
+		m2 += other.m2 + delta2 * nab / n;
+	}
+
+	// -- Getters --
+
+	/** Gets the number of values. */
+	public long getCount() {
+		return count;
+	}
+
+	/** Gets the smallest value, or positive infinity if there is none. */
+	public double getMin() {
+		return min;
+	}
+
+	/** Gets the largest value, or negative infinity if there is none. */
+	public double getMax() {
+		return max;
+	}
+
+	public double getSum() {
+		return sum;
+	}
+
+	public double getSumOfSquares() {
+		return sumOfSquares;
+	}
+
+	public double getSumOfLogs() {
+		return sumOfLogs;
+	}
+
+	public double getSumOfInverses() {
+		return sumOfInverses;
+	}
+
+	/** Gets the arithmetic mean, or NaN if there are no values. */
+	public double getMean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/** Gets the geometric mean, or 0 if there are no values. */
+	public double getGeometricMean() {
+		return count == 0 ? 0 : Math.exp(sumOfLogs / count);
+	}
+
+	/** Gets the harmonic mean, or 0 if the sum of inverses is 0. */
+	public double getHarmonicMean() {
+		return sumOfInverses == 0 ? 0 : count / sumOfInverses;
+	}
+
+	/** Gets the first central moment, which is 0 up to rounding. */
+	public double getMoment1AboutMean() {
+		return count == 0 ? Double.NaN : 0;
+	}
+
+	public double getMoment2AboutMean() {
+		return m2 / count;
+	}
+
+	public double getMoment3AboutMean() {
+		return m3 / count;
+	}
+
+	public double getMoment4AboutMean() {
+		return m4 / count;
+	}
+
+	/** Gets the sample variance, or NaN if there are fewer than two values. */
+	public double getVariance() {
+		return count < 2 ? Double.NaN : m2 / (count - 1);
+	}
+
+	/** Gets the sample standard deviation. */
+	public double getStdDev() {
+		return Math.sqrt(getVariance());
+	}
+
+	/** Gets the skewness, or NaN if the standard deviation is 0. */
+	public double getSkewness() {
+		final double std = getStdDev();
+		return std == 0 ? Double.NaN : getMoment3AboutMean() / (std * std * std);
+	}
+
+	/** Gets the kurtosis, or NaN if the standard deviation is 0. */
+	public double getKurtosis() {
+		final double std = getStdDev();
+		return std == 0 ? Double.NaN : getMoment4AboutMean() /
+			(std * std * std * std);
+	}
+
+	// -- Helper methods --
+
+	private void copy(final StatsSummary other) {
+		count = other.count;
+		min = other.min;
+		max = other.max;
+		sum = other.sum;
+		sumOfSquares = other.sumOfSquares;
+		sumOfLogs = other.sumOfLogs;
+		sumOfInverses = other.sumOfInverses;
+		mean = other.mean;
+		m2 = other.m2;
+		m3 = other.m3;
+		m4 = other.m4;
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.cached.CachedOpEnvironment;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Moment-based statistics ops which read their value from the
+ * {@code stats.summary} of the input.
+ * <p>
+ * They only apply within a {@link CachedOpEnvironment}, where the summary of
+ * an input is computed once and shared: asking for e.g. the mean, variance,
+ * skewness and kurtosis of the same region then takes a single pass over it,
+ * instead of one pass for the mean and another for each central moment. They
+ * intentionally outrank the dedicated ops there.
+ * </p>
+ * <p>
+ * The other statistics, such as the sums, min and max, take a single pass with
+ * their dedicated ops, which are cheaper than the summary and so are not
+ * overridden.
+ * </p>
+ *
+ * @see StatsSummary
+ */
+public final class SummaryStats {
+
+	private SummaryStats() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	@Plugin(type = Ops.Stats.Kurtosis.class, label = "Statistics: Kurtosis",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Kurtosis<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Kurtosis
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getKurtosis();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Mean.class, label = "Statistics: Mean",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Mean<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Mean
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment1AboutMean.class, label = "Statistics: Moment1AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Moment1AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Moment1AboutMean
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getMoment1AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment2AboutMean.class, label = "Statistics: Moment2AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Moment2AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Moment2AboutMean
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getMoment2AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment3AboutMean.class, label = "Statistics: Moment3AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Moment3AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Moment3AboutMean
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getMoment3AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Moment4AboutMean.class, label = "Statistics: Moment4AboutMean",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Moment4AboutMean<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Moment4AboutMean
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getMoment4AboutMean();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Skewness.class, label = "Statistics: Skewness",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Skewness<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Skewness
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getSkewness();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.StdDev.class, label = "Statistics: Standard Deviation",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class StdDev<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.StdDev
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getStdDev();
+		}
+	}
+
+	@Plugin(type = Ops.Stats.Variance.class, label = "Statistics: Variance",
+		priority = Priority.VERY_HIGH_PRIORITY + 1)
+	public static class Variance<I extends RealType<I>, O extends RealType<O>>
+		extends SummaryStatsOp<I, O> implements Ops.Stats.Variance
+	{
+
+		@Override
+		protected double get(final StatsSummary summary) {
+			return summary.getVariance();
+		}
+	}
+
+	// -- Helper classes --
+
+	private abstract static class SummaryStatsOp<I extends RealType<I>, O extends RealType<O>>
+		extends AbstractStatsOp<Iterable<I>, O> implements Contingent
+	{
+
+		private UnaryFunctionOp<Iterable<I>, StatsSummary> summaryFunc;
+
+		@Override
+		public void initialize() {
+			summaryFunc = Functions.unary(ops(), Ops.Stats.Summary.class,
+				StatsSummary.class, in());
+		}
+
+		@Override
+		public boolean conforms() {
+			return ops() instanceof CachedOpEnvironment;
+		}
+
+		@Override
+		public void compute1(final Iterable<I> input, final O output) {
+			output.setReal(get(summaryFunc.compute1(input)));
+		}
+
+		/** Gets the statistic from the summary of the input. */
+		protected abstract double get(StatsSummary summary);
+	}
+
+}
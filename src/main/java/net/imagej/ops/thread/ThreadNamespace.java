@@ -49,7 +49,9 @@ public class ThreadNamespace extends AbstractNamespace {
 
 	/** Executes the "chunker" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.thread.chunker.DefaultChunker.class,
-		net.imagej.ops.thread.chunker.ChunkerInterleaved.class })
+		net.imagej.ops.thread.chunker.ChunkerInterleaved.class,
+		net.imagej.ops.thread.chunker.ChunkerForkJoin.class,
+		net.imagej.ops.thread.chunker.ChunkerTiled.class })
 	public void chunker(final Chunk chunkable, final long numberOfElements) {
 		ops().run(net.imagej.ops.Ops.Thread.Chunker.class, chunkable,
 			numberOfElements);
@@ -30,7 +30,10 @@
 
 package net.imagej.ops.thread.chunker;
 
+import java.util.concurrent.Future;
+
 import net.imagej.ops.AbstractOp;
+import net.imagej.ops.ParallelContext;
 
 import org.scijava.plugin.Parameter;
 import org.scijava.thread.ThreadService;
@@ -61,7 +64,7 @@ public abstract class AbstractChunker extends AbstractOp implements ChunkerOp {
 	protected long numberOfElements;
 
 	/** Reason for cancelation, or null if not canceled. */
-	private String cancelReason;
+	private volatile String cancelReason;
 
 	// -- Chunker methods --
 
@@ -75,6 +78,42 @@ public abstract class AbstractChunker extends AbstractOp implements ChunkerOp {
 		this.numberOfElements = totalSize;
 	}
 
+	// -- Helper methods --
+
+	/** Gets the {@link ParallelContext} which applies to this chunker. */
+	protected ParallelContext parallelContext() {
+		return ParallelContext.current(ops());
+	}
+
+	/**
+	 * Gets whether this chunker runs inside another parallel region, and should
+	 * hence process its elements sequentially on the calling thread.
+	 *
+	 * @see ParallelContext#isInParallelRegion()
+	 */
+	protected boolean isNested() {
+		return ParallelContext.isInParallelRegion();
+	}
+
+	/**
+	 * Processes all elements on the calling thread, as one chunk of consecutive
+	 * elements.
+	 */
+	protected void runSequentially() {
+		if (numberOfElements > 0) chunkable.execute(0, 1, (int) numberOfElements);
+	}
+
+	/**
+	 * Submits the given task to the executor of the given
+	 * {@link ParallelContext}, handing the context on to the worker thread.
+	 */
+	protected Future<?> submit(final ParallelContext context,
+		final Runnable task)
+	{
+		return context.getExecutorService(threadService).submit(context.wrap(
+			task));
+	}
+
 	// -- Cancelable methods --
 
 	@Override
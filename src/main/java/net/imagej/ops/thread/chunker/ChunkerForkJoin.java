@@ -0,0 +1,233 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Implementation of a {@link ChunkerOp} backed by a {@link ForkJoinPool}. The
+ * elements are split recursively into halves of consecutive elements until a
+ * grain size is reached; idle workers steal the pending halves of busy ones,
+ * so a single expensive region of the problem does not stall the others.
+ * <p>
+ * The grain size adapts to the number of elements and the parallelism of the
+ * pool, but never drops below the configured minimum grain size. The chunker
+ * always runs on the executor of its {@link ParallelContext}: if that is not a
+ * {@link ForkJoinPool}, the chunks of the grain size are submitted to it
+ * directly, without work stealing. Run from a worker of the context's pool,
+ * it joins that pool; run from within any other parallel region, it runs
+ * sequentially. Once the chunker is canceled, or one of its {@link Chunk}s
+ * fails, no further chunks are started.
+ * </p>
+ */
+@Plugin(type = Ops.Thread.Chunker.class, priority = Priority.LOW_PRIORITY)
+public class ChunkerForkJoin extends AbstractChunker {
+
+	/** Default minimum number of elements processed by a single {@link Chunk}. */
+	public static final int DEFAULT_MIN_GRAIN_SIZE = 1024;
+
+	/**
+	 * Number of tasks per worker thread aimed at by the adaptive grain size;
+	 * leaves enough pending tasks for work stealing to balance uneven chunks.
+	 */
+	private static final int TASKS_PER_THREAD = 8;
+
+	private final int STEP_SIZE = 1;
+
+	/** Minimum number of elements processed by a single {@link Chunk}. */
+	@Parameter(required = false)
+	private int minGrainSize = DEFAULT_MIN_GRAIN_SIZE;
+
+	@Override
+	public void run() {
+		// NB: Forget the cancelation caused by a failed chunk of a previous run.
+		cancel(null);
+		if (numberOfElements <= 0) return;
+
+		final ParallelContext context = parallelContext();
+		final ExecutorService executor = context.getExecutorService(
+			threadService);
+		final boolean onPool = ForkJoinTask.getPool() == executor;
+		if (isNested() && !onPool) {
+			// NB: Avoid oversubscribing the threads of the enclosing region.
+			runSequentially();
+			return;
+		}
+		if (!(executor instanceof ForkJoinPool)) {
+			runOnExecutor(context, grainSize(context.getMaxThreads()));
+			return;
+		}
+
+		final ForkJoinPool pool = (ForkJoinPool) executor;
+		final int grainSize = grainSize(Math.min(pool.getParallelism(), context
+			.getMaxThreads()));
+		final ChunkTask task = new ChunkTask(context, 0, (int) numberOfElements,
+			grainSize);
+
+		if (onPool) {
+			// NB: Already running on a worker; join the pool instead of blocking.
+			task.invoke();
+			return;
+		}
+
+		pool.execute(task);
+		try {
+			task.get();
+		}
+		catch (final InterruptedException exc) {
+			cancel("Interrupted");
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(exc);
+		}
+		catch (final ExecutionException exc) {
+			throw new RuntimeException(exc);
+		}
+	}
+
+	/** Gets the minimum number of elements processed by a single chunk. */
+	public int getMinGrainSize() {
+		return minGrainSize;
+	}
+
+	/** Sets the minimum number of elements processed by a single chunk. */
+	public void setMinGrainSize(final int minGrainSize) {
+		this.minGrainSize = minGrainSize;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Submits the chunks of the given grain size to the executor of the given
+	 * {@link ParallelContext}, which is not a {@link ForkJoinPool}, and waits
+	 * for them to finish.
+	 */
+	private void runOnExecutor(final ParallelContext context,
+		final int grainSize)
+	{
+		final List<Future<?>> futures = new ArrayList<>();
+		for (long start = 0; start < numberOfElements; start += grainSize) {
+			final int startIndex = (int) start;
+			final int numSteps = (int) Math.min(grainSize, numberOfElements -
+				start);
+			futures.add(submit(context, () -> runChunk(startIndex, numSteps)));
+		}
+		try {
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (final InterruptedException exc) {
+			cancel("Interrupted");
+			for (final Future<?> future : futures) {
+				future.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(exc);
+		}
+		catch (final ExecutionException exc) {
+			throw new RuntimeException(exc);
+		}
+	}
+
+	/** Runs one chunk, unless the chunker has been canceled. */
+	private void runChunk(final int startIndex, final int numSteps) {
+		if (isCanceled()) return;
+		try {
+			chunkable.execute(startIndex, STEP_SIZE, numSteps);
+		}
+		catch (final RuntimeException | Error exc) {
+			// NB: Keep the remaining chunks from starting.
+			cancel(String.valueOf(exc));
+			throw exc;
+		}
+	}
+
+	/**
+	 * Computes the number of elements below which a task is no longer split,
+	 * aiming at {@link #TASKS_PER_THREAD} tasks per worker thread.
+	 */
+	private int grainSize(final int parallelism) {
+		final long tasks = (long) Math.max(1, parallelism) * TASKS_PER_THREAD;
+		final long adaptive = (numberOfElements + tasks - 1) / tasks;
+		return (int) Math.max(Math.max(1, minGrainSize), adaptive);
+	}
+
+	// -- Helper classes --
+
+	/** Recursively splits a range of consecutive elements into halves. */
+	private class ChunkTask extends RecursiveAction {
+
+		private final ParallelContext context;
+
+		private final int startIndex;
+
+		private final int numSteps;
+
+		private final int grainSize;
+
+		public ChunkTask(final ParallelContext context, final int startIndex,
+			final int numSteps, final int grainSize)
+		{
+			this.context = context;
+			this.startIndex = startIndex;
+			this.numSteps = numSteps;
+			this.grainSize = grainSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (isCanceled()) return;
+			if (numSteps <= grainSize) {
+				context.wrap(() -> runChunk(startIndex, numSteps)).run();
+				return;
+			}
+			final int half = numSteps >>> 1;
+			invokeAll(new ChunkTask(context, startIndex, half, grainSize),
+				new ChunkTask(context, startIndex + half, numSteps - half, grainSize));
+		}
+	}
+
+}
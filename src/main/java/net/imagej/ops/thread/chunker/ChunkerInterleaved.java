@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.concurrent.Future;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
 
 import org.scijava.Priority;
 import org.scijava.log.LogService;
@@ -59,7 +60,14 @@ public class ChunkerInterleaved extends AbstractChunker {
 	@Override
 	public void run() {
 
-		final int numThreads = Runtime.getRuntime().availableProcessors();
+		if (isNested()) {
+			// NB: Avoid oversubscribing the threads of the enclosing region.
+			runSequentially();
+			return;
+		}
+
+		final ParallelContext context = parallelContext();
+		final int numThreads = context.getMaxThreads();
 		final int numStepsFloor = (int) (numberOfElements / numThreads);
 		final int remainder = (int) numberOfElements - (numStepsFloor * numThreads);
 
@@ -68,7 +76,7 @@ public class ChunkerInterleaved extends AbstractChunker {
 		for (int i = 0; i < numThreads; i++) {
 			final int j = i;
 
-			futures.add(threadService.run(new Runnable() {
+			futures.add(submit(context, new Runnable() {
 
 				@Override
 				public void run() {
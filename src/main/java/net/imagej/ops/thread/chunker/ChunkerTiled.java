@@ -0,0 +1,127 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Implementation of a {@link ChunkerOp} that hands out contiguous blocks of
+ * elements. Each thread repeatedly claims the next block of consecutive
+ * elements until all elements are processed, so threads work on disjoint
+ * regions of memory and faster threads take over more blocks. The stepSize is
+ * set to one, i.e. each block can be iterated by plain forward steps.
+ */
+@Plugin(type = Ops.Thread.Chunker.class,
+	priority = Priority.VERY_LOW_PRIORITY + 1)
+public class ChunkerTiled extends AbstractChunker {
+
+	/** Default number of consecutive elements in one block. */
+	public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	private final int STEP_SIZE = 1;
+
+	/** Number of consecutive elements in one block. */
+	@Parameter(required = false)
+	private int blockSize = DEFAULT_BLOCK_SIZE;
+
+	@Override
+	public void run() {
+		// NB: Forget the cancelation caused by a failed chunk of a previous run.
+		cancel(null);
+		if (isNested()) {
+			// NB: Avoid oversubscribing the threads of the enclosing region.
+			runSequentially();
+			return;
+		}
+
+		if (numberOfElements <= 0) return;
+
+		final int size = Math.max(1, blockSize);
+		final long numBlocks = (numberOfElements + size - 1) / size;
+		final ParallelContext context = parallelContext();
+		final int numThreads = (int) Math.min(numBlocks, context.getMaxThreads());
+
+		final AtomicLong nextBlock = new AtomicLong();
+		final ArrayList<Future<?>> futures = new ArrayList<>(numThreads);
+
+		for (int i = 0; i < numThreads; i++) {
+			futures.add(submit(context, new Runnable() {
+
+				@Override
+				public void run() {
+					long block;
+					while (!isCanceled() && (block = nextBlock
+						.getAndIncrement()) < numBlocks)
+					{
+						final long start = block * size;
+						final long numSteps = Math.min(size, numberOfElements - start);
+						chunkable.execute((int) start, STEP_SIZE, (int) numSteps);
+					}
+				}
+			}));
+		}
+
+		for (final Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (final InterruptedException exc) {
+				cancel("Interrupted");
+				throw new RuntimeException(exc);
+			}
+			catch (final ExecutionException exc) {
+				cancel(String.valueOf(exc.getCause()));
+				throw new RuntimeException(exc);
+			}
+		}
+	}
+
+	/** Gets the number of consecutive elements in one block. */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/** Sets the number of consecutive elements in one block. */
+	public void setBlockSize(final int blockSize) {
+		this.blockSize = blockSize;
+	}
+
+}
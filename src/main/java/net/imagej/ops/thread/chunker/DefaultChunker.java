@@ -35,6 +35,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.ParallelContext;
 
 import org.scijava.log.LogService;
 import org.scijava.plugin.Parameter;
@@ -59,10 +60,17 @@ public class DefaultChunker extends AbstractChunker {
 	@Override
 	public void run() {
 
+		if (isNested()) {
+			// NB: Avoid oversubscribing the threads of the enclosing region.
+			runSequentially();
+			return;
+		}
+
 		// TODO: is there a better way to determine the optimal chunk size?
-		
+
+		final ParallelContext context = parallelContext();
 		final int numSteps = Math.max(1, 
-			(int) (numberOfElements / Runtime.getRuntime().availableProcessors())) ;
+			(int) (numberOfElements / context.getMaxThreads())) ;
 		
 		final int numChunks = (int) (numberOfElements / numSteps);
 
@@ -71,7 +79,7 @@ public class DefaultChunker extends AbstractChunker {
 		for (int i = 0; i < numChunks - 1; i++) {
 			final int j = i;
 
-			futures.add(threadService.run(new Runnable() {
+			futures.add(submit(context, new Runnable() {
 
 				@Override
 				public void run() {
@@ -81,7 +89,7 @@ public class DefaultChunker extends AbstractChunker {
 		}
 
 		// last chunk additionally add the rest of elements
-		futures.add(threadService.run(new Runnable() {
+		futures.add(submit(context, new Runnable() {
 
 			@Override
 			public void run() {
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A {@link Chunk} which reduces the elements of a problem to a single result.
+ * <p>
+ * Each execution accumulates its elements into a fresh partial result. Once
+ * the {@link ChunkerOp} has finished, {@link #getResult()} merges the partial
+ * results in the order of their start indices, so that the result does not
+ * depend on the scheduling of the chunks.
+ * </p>
+ *
+ * @param <A> type of the (partial) results
+ */
+public abstract class ReducingChunk<A> implements Chunk {
+
+	private final ConcurrentSkipListMap<Integer, A> partials =
+		new ConcurrentSkipListMap<>();
+
+	@Override
+	public void execute(final int startIndex, final int stepSize,
+		final int numSteps)
+	{
+		final A partial = createPartial();
+		accumulate(partial, startIndex, stepSize, numSteps);
+		partials.put(startIndex, partial);
+	}
+
+	/** Merges the partial results of all executed chunks. */
+	public A getResult() {
+		final A result = createPartial();
+		for (final A partial : partials.values()) {
+			merge(result, partial);
+		}
+		return result;
+	}
+
+	/** Creates an empty partial result. */
+	protected abstract A createPartial();
+
+	/**
+	 * Accumulates the given elements into the partial result.
+	 *
+	 * @see Chunk#execute(int, int, int)
+	 */
+	protected abstract void accumulate(A partial, int startIndex, int stepSize,
+		int numSteps);
+
+	/** Merges a partial result into the given result. */
+	protected abstract void merge(A result, A partial);
+
+}
@@ -37,11 +37,49 @@ import net.imglib2.type.numeric.RealType;
 
 /**
  * {@link AbstractCenterAwareComputerOp} for use in {@link LocalThreshold}s.
+ * <p>
+ * Implementations resolve the ops they need once in {@link #initialize()},
+ * using the representative neighborhood and center given as {@link #in1()}
+ * and {@link #in2()}, and compute into scratch variables held as fields
+ * rather than allocating new ones for every pixel. Such an instance must not
+ * be shared across threads, so {@link #getIndependentInstance()} returns a
+ * copy whose per-thread state has been replaced by {@link #makeIndependent()}.
+ * </p>
  * 
  * @author Jonathan Hale (University of Konstanz)
  */
 public abstract class LocalThresholdMethod<T extends RealType<T>> extends
-	AbstractCenterAwareComputerOp<T, BitType>
-{	
-	// NB: marker interface
+	AbstractCenterAwareComputerOp<T, BitType> implements Cloneable
+{
+
+	// -- Threadable methods --
+
+	@Override
+	public LocalThresholdMethod<T> getIndependentInstance() {
+		final LocalThresholdMethod<T> instance;
+		try {
+			@SuppressWarnings("unchecked")
+			final LocalThresholdMethod<T> copy = (LocalThresholdMethod<T>) clone();
+			instance = copy;
+		}
+		catch (final CloneNotSupportedException exc) {
+			// NB: Cannot happen, since this class is Cloneable.
+			throw new IllegalStateException(exc);
+		}
+		instance.makeIndependent();
+		return instance;
+	}
+
+	// -- Internal methods --
+
+	/**
+	 * Replaces the per-thread state of an instance freshly copied by
+	 * {@link #getIndependentInstance()}, i.e. allocates new scratch variables
+	 * and takes independent instances of the ops resolved in
+	 * {@link #initialize()}.
+	 */
+	protected void makeIndependent() {
+		// NB: No per-thread state by default.
+	}
+
 }
@@ -363,8 +363,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localContrast.LocalContrastThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localContrast.LocalContrastThreshold.class,
+		net.imagej.ops.threshold.localContrast.RectangleLocalContrastThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localContrastThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape,
@@ -377,8 +378,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localContrast.LocalContrastThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localContrast.LocalContrastThreshold.class,
+		net.imagej.ops.threshold.localContrast.RectangleLocalContrastThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localContrastThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape)
@@ -390,7 +392,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localMean.LocalMeanThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localMean.LocalMeanThreshold.class,
+		net.imagej.ops.threshold.localMean.RectangleLocalMeanThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localMeanThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape,
@@ -405,7 +409,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localMean.LocalMeanThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localMean.LocalMeanThreshold.class,
+		net.imagej.ops.threshold.localMean.RectangleLocalMeanThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localMeanThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape, final double c)
@@ -475,8 +481,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold.class,
+		net.imagej.ops.threshold.localNiblack.RectangleLocalNiblackThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localNiblackThreshold(
 		final IterableInterval<BitType> out, final RandomAccessibleInterval<T> in,
 		final Shape shape,
@@ -490,8 +497,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 	
-	@OpMethod(
-		op = net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold.class,
+		net.imagej.ops.threshold.localNiblack.RectangleLocalNiblackThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localNiblackThreshold(
 		final IterableInterval<BitType> out, final RandomAccessibleInterval<T> in,
 		final Shape shape,
@@ -535,8 +543,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class,
+		net.imagej.ops.threshold.localPhansalkar.RectangleLocalPhansalkarThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localPhansalkarThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape,
@@ -551,8 +560,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class,
+		net.imagej.ops.threshold.localPhansalkar.RectangleLocalPhansalkarThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localPhansalkarThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape,
@@ -567,8 +577,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class,
+		net.imagej.ops.threshold.localPhansalkar.RectangleLocalPhansalkarThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localPhansalkarThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape,
@@ -582,8 +593,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold.class,
+		net.imagej.ops.threshold.localPhansalkar.RectangleLocalPhansalkarThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType>
 		localPhansalkarThreshold(final IterableInterval<BitType> out,
 			final RandomAccessibleInterval<T> in, final Shape shape)
@@ -596,7 +608,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class,
+		net.imagej.ops.threshold.localSauvola.RectangleLocalSauvolaThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localSauvolaThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape,
@@ -611,7 +625,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class,
+		net.imagej.ops.threshold.localSauvola.RectangleLocalSauvolaThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localSauvolaThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape,
@@ -626,7 +642,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class,
+		net.imagej.ops.threshold.localSauvola.RectangleLocalSauvolaThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localSauvolaThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape,
@@ -640,7 +658,9 @@ public class ThresholdNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class)
+	@OpMethod(ops = {
+		net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold.class,
+		net.imagej.ops.threshold.localSauvola.RectangleLocalSauvolaThreshold.class })
 	public <T extends RealType<T>> IterableInterval<BitType> localSauvolaThreshold(
 		final IterableInterval<BitType> out,
 		final RandomAccessibleInterval<T> in, final Shape shape)
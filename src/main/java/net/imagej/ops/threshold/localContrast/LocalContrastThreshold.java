@@ -32,13 +32,13 @@ package net.imagej.ops.threshold.localContrast;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.map.neighborhood.CenterAwareComputerOp;
-import net.imagej.ops.special.function.Functions;
-import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.threshold.LocalThresholdMethod;
 import net.imagej.ops.threshold.apply.LocalThreshold;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.util.Pair;
+import net.imglib2.type.numeric.real.DoubleType;
 
 import org.scijava.plugin.Plugin;
 
@@ -59,22 +59,35 @@ public class LocalContrastThreshold<T extends RealType<T>> extends
 	{
 		final LocalThresholdMethod<T> op = new LocalThresholdMethod<T>() {
 
-			private UnaryFunctionOp<Iterable<T>, Pair<T, T>> minMaxFunc;
+			private UnaryComputerOp<Iterable<T>, DoubleType> minOp;
+			private UnaryComputerOp<Iterable<T>, DoubleType> maxOp;
+			private DoubleType min;
+			private DoubleType max;
 
-			@SuppressWarnings({ "unchecked", "rawtypes" })
 			@Override
-			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
+			public void initialize() {
+				min = new DoubleType();
+				max = new DoubleType();
+				minOp = Computers.unary(ops(), Ops.Stats.Min.class, min, in1());
+				maxOp = Computers.unary(ops(), Ops.Stats.Max.class, max, in1());
+			}
 
-				if (minMaxFunc == null) {
-					minMaxFunc = (UnaryFunctionOp) Functions.unary(ops(),
-						Ops.Stats.MinMax.class, Pair.class, neighborhood);
-				}
+			@Override
+			protected void makeIndependent() {
+				min = new DoubleType();
+				max = new DoubleType();
+				minOp = minOp.getIndependentInstance();
+				maxOp = maxOp.getIndependentInstance();
+			}
 
-				final Pair<T, T> outputs = minMaxFunc.compute1(neighborhood);
+			@Override
+			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
+				minOp.compute1(neighborhood, min);
+				maxOp.compute1(neighborhood, max);
 
 				final double centerValue = center.getRealDouble();
-				final double diffMin = centerValue - outputs.getA().getRealDouble();
-				final double diffMax = outputs.getB().getRealDouble() - centerValue;
+				final double diffMin = centerValue - min.get();
+				final double diffMax = max.get() - centerValue;
 
 				// set to background (false) if pixel closer to min value,
 				// and to foreground (true) if pixel closer to max value.
@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.threshold.localContrast;
+
+import java.util.function.Supplier;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.filter.AbstractRectangleFilter;
+import net.imagej.ops.filter.RectangleExtrema;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.view.Views;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link LocalContrastThreshold} for {@link RectangleShape}s which include
+ * their center. The minimum and maximum of each neighborhood come from
+ * {@link RectangleExtrema} computed once for the whole image.
+ */
+@Plugin(type = Ops.Threshold.LocalContrastThreshold.class,
+	priority = Priority.HIGH_PRIORITY)
+public class RectangleLocalContrastThreshold<T extends RealType<T>> extends
+	AbstractRectangleFilter<T, BitType> implements
+	Ops.Threshold.LocalContrastThreshold
+{
+
+	@Override
+	public boolean conforms() {
+		return super.conforms() && !getShape().isSkippingCenter() &&
+			RectangleExtrema.fits(in(), getShape().getSpan());
+	}
+
+	@Override
+	protected Supplier<PixelFilter<T, BitType>> prepare(
+		final RandomAccessibleInterval<T> input)
+	{
+		final int span = getShape().getSpan();
+		final RandomAccessible<T> extended = Views.extend(input,
+			getOutOfBoundsFactory());
+		final RectangleExtrema min = new RectangleExtrema(extended, input, span,
+			false);
+		final RectangleExtrema max = new RectangleExtrema(extended, input, span,
+			true);
+
+		final PixelFilter<T, BitType> filter = (offset, center, output) -> {
+			final int index = min.index(offset);
+			final double centerValue = center.get().getRealDouble();
+			final double diffMin = centerValue - min.get(index);
+			final double diffMax = max.get(index) - centerValue;
+
+			// set to background (false) if pixel closer to min value,
+			// and to foreground (true) if pixel closer to max value.
+			// If diffMin and diffMax are equal, output will be set to fg.
+			output.set(diffMin <= diffMax);
+		};
+		return () -> filter;
+	}
+
+}
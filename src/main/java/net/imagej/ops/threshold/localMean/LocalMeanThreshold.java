@@ -66,16 +66,22 @@ public class LocalMeanThreshold<T extends RealType<T>> extends
 		final LocalThresholdMethod<T> op = new LocalThresholdMethod<T>() {
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> meanOp;
+			private DoubleType m;
 
 			@Override
-			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
-
-				if (meanOp == null) {
-					meanOp = Computers.unary(ops(),	Ops.Stats.Mean.class, DoubleType.class, neighborhood);
-				}
+			public void initialize() {
+				m = new DoubleType();
+				meanOp = Computers.unary(ops(), Ops.Stats.Mean.class, m, in1());
+			}
 
-				final DoubleType m = new DoubleType();
+			@Override
+			protected void makeIndependent() {
+				m = new DoubleType();
+				meanOp = meanOp.getIndependentInstance();
+			}
 
+			@Override
+			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
 				meanOp.compute1(neighborhood, m);
 				output.set(center.getRealDouble() > m.getRealDouble() - c);
 			}
@@ -64,16 +64,22 @@ public class LocalMedianThreshold<T extends RealType<T>> extends LocalThreshold<
 		final LocalThresholdMethod<T> op = new LocalThresholdMethod<T>() {
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> median;
+			private DoubleType m;
 
 			@Override
-			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
+			public void initialize() {
+				m = new DoubleType();
+				median = Computers.unary(ops(), Ops.Stats.Median.class, m, in1());
+			}
 
-				if (median == null) {
-					median = Computers
-							.unary(ops(), Ops.Stats.Median.class, DoubleType.class, neighborhood);
-				}
+			@Override
+			protected void makeIndependent() {
+				m = new DoubleType();
+				median = median.getIndependentInstance();
+			}
 
-				final DoubleType m = new DoubleType();
+			@Override
+			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
 				median.compute1(neighborhood, m);
 				output.set(center.getRealDouble() > m.getRealDouble() - c);
 			}
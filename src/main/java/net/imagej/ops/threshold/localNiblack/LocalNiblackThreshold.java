@@ -68,24 +68,29 @@ public class LocalNiblackThreshold<T extends RealType<T>> extends LocalThreshold
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> mean;
 			private UnaryComputerOp<Iterable<T>, DoubleType> stdDeviation;
+			private DoubleType m;
+			private DoubleType stdDev;
 
 			@Override
-			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
-
-				if (mean == null) {
-					mean = Computers.unary(ops(), Ops.Stats.Mean.class, new DoubleType(),
-						neighborhood);
-				}
+			public void initialize() {
+				m = new DoubleType();
+				stdDev = new DoubleType();
+				mean = Computers.unary(ops(), Ops.Stats.Mean.class, m, in1());
+				stdDeviation = Computers.unary(ops(), Ops.Stats.StdDev.class, stdDev,
+					in1());
+			}
 
-				if (stdDeviation == null) {
-					stdDeviation = Computers.unary(ops(), Ops.Stats.StdDev.class,
-						new DoubleType(), neighborhood);
-				}
+			@Override
+			protected void makeIndependent() {
+				m = new DoubleType();
+				stdDev = new DoubleType();
+				mean = mean.getIndependentInstance();
+				stdDeviation = stdDeviation.getIndependentInstance();
+			}
 
-				final DoubleType m = new DoubleType();
+			@Override
+			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
 				mean.compute1(neighborhood, m);
-
-				final DoubleType stdDev = new DoubleType();
 				stdDeviation.compute1(neighborhood, stdDev);
 
 				output.set(center.getRealDouble() > m.getRealDouble() + k * stdDev
@@ -0,0 +1,76 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.threshold.localNiblack;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.filter.AbstractRectangleSumsFilter;
+import net.imagej.ops.filter.RectangleSums;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link LocalNiblackThreshold} for {@link RectangleShape}s, which takes the
+ * mean and standard deviation of each neighborhood from window sums computed
+ * once for the whole image.
+ */
+@Plugin(type = Ops.Threshold.LocalNiblackThreshold.class,
+	priority = Priority.HIGH_PRIORITY)
+public class RectangleLocalNiblackThreshold<T extends RealType<T>> extends
+	AbstractRectangleSumsFilter<T, BitType> implements
+	Ops.Threshold.LocalNiblackThreshold
+{
+
+	@Parameter
+	private double c;
+
+	@Parameter
+	private double k;
+
+	@Override
+	protected PixelFilter<T, BitType> createPixelFilter(
+		final RandomAccessibleInterval<T> input, final RectangleSums sums)
+	{
+		return (offset, center, output) -> {
+			final int index = sums.index(offset);
+			final double centerValue = center.get().getRealDouble();
+			final double mean = sums.mean(index, centerValue);
+			final double stdDev = Math.sqrt(sums.variance(index, centerValue));
+			output.set(centerValue > mean + k * stdDev - c);
+		};
+	}
+
+}
@@ -77,24 +77,29 @@ public class LocalSauvolaThreshold<T extends RealType<T>> extends LocalThreshold
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> mean;
 			private UnaryComputerOp<Iterable<T>, DoubleType> stdDeviation;
+			private DoubleType meanValue;
+			private DoubleType stdDevValue;
 
 			@Override
-			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
-
-				if (mean == null) {
-					mean = Computers.unary(ops(), Ops.Stats.Mean.class, new DoubleType(),
-						neighborhood);
-				}
+			public void initialize() {
+				meanValue = new DoubleType();
+				stdDevValue = new DoubleType();
+				mean = Computers.unary(ops(), Ops.Stats.Mean.class, meanValue, in1());
+				stdDeviation = Computers.unary(ops(), Ops.Stats.StdDev.class,
+					stdDevValue, in1());
+			}
 
-				if (stdDeviation == null) {
-					stdDeviation = Computers.unary(ops(), Ops.Stats.StdDev.class,
-						new DoubleType(), neighborhood);
-				}
+			@Override
+			protected void makeIndependent() {
+				meanValue = new DoubleType();
+				stdDevValue = new DoubleType();
+				mean = mean.getIndependentInstance();
+				stdDeviation = stdDeviation.getIndependentInstance();
+			}
 
-				final DoubleType meanValue = new DoubleType();
+			@Override
+			public void compute2(final Iterable<T> neighborhood, final T center, final BitType output) {
 				mean.compute1(neighborhood, meanValue);
-
-				final DoubleType stdDevValue = new DoubleType();
 				stdDeviation.compute1(neighborhood, stdDevValue);
 
 				double threshold = meanValue.get() * (1.0d + k * ((Math.sqrt(stdDevValue
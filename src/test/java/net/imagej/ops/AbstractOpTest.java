@@ -30,15 +30,20 @@
 
 package net.imagej.ops;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 import java.util.Random;
 
 import net.imglib2.Cursor;
 import net.imglib2.FinalInterval;
+import net.imglib2.IterableInterval;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
 import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.img.basictypeaccess.array.ByteArray;
 import net.imglib2.img.basictypeaccess.array.FloatArray;
+import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.ByteType;
 import net.imglib2.type.numeric.integer.UnsignedByteType;
 import net.imglib2.type.numeric.real.FloatType;
@@ -166,6 +171,38 @@ public abstract class AbstractOpTest {
 		return img;
 	}
 
+	/**
+	 * Checks that {@code fastType} is matched as {@code type} for the given
+	 * arguments, and computes the same output as {@code defaultType}.
+	 *
+	 * @param expected the output of {@code defaultType}
+	 * @param actual the output of {@code fastType}, iterated in the same order
+	 * @param delta the tolerance of each output value
+	 * @param args the arguments following the output
+	 */
+	public <O extends RealType<O>> void assertMatchesDefault(
+		final Class<? extends Op> type, final Class<? extends Op> fastType,
+		final Class<? extends Op> defaultType, final IterableInterval<O> expected,
+		final IterableInterval<O> actual, final double delta,
+		final Object... args)
+	{
+		final Object[] actualArgs = new Object[args.length + 1];
+		actualArgs[0] = actual;
+		System.arraycopy(args, 0, actualArgs, 1, args.length);
+		assertSame(fastType, ops.op(type, actualArgs).getClass());
+		ops.run(fastType, actualArgs);
+
+		final Object[] expectedArgs = actualArgs.clone();
+		expectedArgs[0] = expected;
+		ops.run(defaultType, expectedArgs);
+
+		final Cursor<O> e = expected.cursor();
+		final Cursor<O> a = actual.cursor();
+		while (e.hasNext()) {
+			assertEquals(e.next().getRealDouble(), a.next().getRealDouble(), delta);
+		}
+	}
+
 	public static class NoOp extends AbstractOp {
 
 		@Override
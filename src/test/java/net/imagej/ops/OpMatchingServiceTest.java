@@ -36,11 +36,15 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
 import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.Test;
+import org.scijava.InstantiableException;
 import org.scijava.ItemIO;
 import org.scijava.module.Module;
 import org.scijava.plugin.Attr;
@@ -77,6 +81,54 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		assertTrue(Double.isNaN(value.get()));
 	}
 
+	/** Tests that repeated matches are served from the match cache. */
+	@Test
+	public void testMatchCache() {
+		final DefaultOpMatchingService service = (DefaultOpMatchingService) matcher;
+		service.clearMatchCache();
+
+		final DoubleType value = new DoubleType(1.0);
+		final Module first = matcher.findMatch(ops, OpRef.create("test.nan",
+			value)).getModule();
+		assertEquals(0, service.getMatchCacheHits());
+		assertEquals(1, service.getMatchCacheMisses());
+
+		final DoubleType other = new DoubleType(2.0);
+		final Module second = matcher.findMatch(ops, OpRef.create("test.nan",
+			other)).getModule();
+		assertEquals(1, service.getMatchCacheHits());
+		assertEquals(1, service.getMatchCacheMisses());
+		assertSame(first.getDelegateObject().getClass(), second.getDelegateObject()
+			.getClass());
+		assertSame(other, second.getInput("arg"));
+	}
+
+	/** Tests that special ops are matched without creating a module. */
+	@Test
+	public void testSpecialOpWithoutModule() {
+		final DoubleType in = new DoubleType(1.5);
+		final DoubleType out = new DoubleType();
+		final OpCandidate<Op> match = matcher.findMatch(ops, OpRef.create(
+			"test.increment", out, in, 2.0));
+		final Op op = match.getOp();
+		assertSame(IncrementOp.class, op.getClass());
+		assertSame(ops, op.ops());
+
+		final Object[] values = ops.info(op).getInputValues(op);
+		assertEquals(3, values.length);
+		assertSame(out, values[0]);
+		assertSame(in, values[1]);
+		assertEquals(2.0, (Double) values[2], 0.0);
+
+		((IncrementOp) op).compute1(in, out);
+		assertEquals(3.5, out.get(), 0.0);
+
+		// the module is still available on demand
+		final Module module = match.getModule();
+		assertSame(op, module.getDelegateObject());
+		assertSame(in, module.getInput("in"));
+	}
+
 	/** Tests support for matching when there are optional parameters. */
 	@Test
 	public void testOptionalParams() {
@@ -126,6 +178,23 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		assertMatches("dessert.italianIceCream", RichGelato.class);
 	}
 
+	/**
+	 * Tests that {@link OpMatchingService#findCandidates} returns the same
+	 * candidates, in the same order, as a scan over all available ops.
+	 */
+	@Test
+	public void testFindCandidates() {
+		assertCandidates(OpRef.create("dessert.sherbet"));
+		assertCandidates(OpRef.create("sherbet"));
+		assertCandidates(OpRef.create("dessert.gelati"));
+		assertCandidates(OpRef.create("add"));
+		assertCandidates(OpRef.create(Dessert.class));
+		assertCandidates(OpRef.create(Foo.class));
+		assertCandidates(OpRef.create(Ops.Math.Add.class));
+		assertEquals(7, matcher.findCandidates(ops, OpRef.create(Dessert.class))
+			.size());
+	}
+
 	/** Tests if the perfect match will be selected if no priority given. */
 	@Test
 	public void testPerfectMatch() {
@@ -197,6 +266,25 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		}
 	}
 
+	private void assertCandidates(final OpRef<?> ref) {
+		final List<OpInfo> expected = new ArrayList<>();
+		for (final OpInfo info : ops.infos()) {
+			if (!info.nameMatches(ref.getName())) continue;
+			try {
+				if (ref.typesMatch(info.cInfo().loadClass())) expected.add(info);
+			}
+			catch (final InstantiableException exc) {
+				// NB: Invalid ops are never candidates.
+			}
+		}
+		final List<OpCandidate<?>> candidates = matcher.findCandidates(ops,
+			Collections.<OpRef<?>> singletonList(ref));
+		assertEquals(expected.size(), candidates.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), candidates.get(i).opInfo());
+		}
+	}
+
 	// -- Helper classes --
 
 	/** A test {@link Op}. */
@@ -212,6 +300,20 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		}
 	}
 
+	@Plugin(type = Op.class, name = "test.increment")
+	public static class IncrementOp extends
+		AbstractUnaryComputerOp<DoubleType, DoubleType>
+	{
+
+		@Parameter(required = false)
+		private double amount = 1;
+
+		@Override
+		public void compute1(final DoubleType input, final DoubleType output) {
+			output.set(input.get() + amount);
+		}
+	}
+
 	@Plugin(type = Op.class)
 	public static class OptionalParams extends AbstractOp {
 
@@ -0,0 +1,157 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.DefaultChunker;
+
+import org.junit.Test;
+import org.scijava.thread.ThreadService;
+
+/**
+ * Tests {@link ParallelContext}.
+ */
+public class ParallelContextTest extends AbstractOpTest {
+
+	@Test
+	public void testEnvironmentContext() {
+		assertSame(ParallelContext.DEFAULT, ops.getParallelContext());
+
+		final CustomOpEnvironment parent = new CustomOpEnvironment(ops);
+		final CustomOpEnvironment child = new CustomOpEnvironment(parent);
+		final ParallelContext context = ParallelContext.threads(2);
+		parent.setParallelContext(context);
+
+		assertSame(context, child.getParallelContext());
+		assertSame(context, ParallelContext.current(child));
+		assertEquals(2, context.getMaxThreads());
+
+		// the context of the current thread takes precedence
+		final ParallelContext perCall = ParallelContext.threads(1);
+		perCall.run(() -> assertSame(perCall, ParallelContext.current(child)));
+		assertSame(context, ParallelContext.current(child));
+	}
+
+	@Test
+	public void testSharedPools() {
+		final ThreadService threadService = context.service(ThreadService.class);
+		final ExecutorService pool = ParallelContext.threads(3).getExecutorService(
+			threadService);
+
+		// contexts with the same thread limit share one pool
+		assertSame(pool, ParallelContext.threads(3).getExecutorService(
+			threadService));
+		assertNotSame(pool, ParallelContext.threads(2).getExecutorService(
+			threadService));
+		assertSame(threadService.getExecutorService(), ParallelContext.DEFAULT
+			.getExecutorService(threadService));
+	}
+
+	@Test
+	public void testChunkerRespectsContext() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final ParallelContext context = new ParallelContext(2, executor);
+			final CustomOpEnvironment env = new CustomOpEnvironment(ops);
+			env.setParallelContext(context);
+
+			final Set<Thread> threads = Collections.synchronizedSet(
+				new HashSet<>());
+			final Set<ParallelContext> contexts = Collections.synchronizedSet(
+				new HashSet<>());
+			env.run(DefaultChunker.class, new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					threads.add(Thread.currentThread());
+					contexts.add(ParallelContext.current(null));
+				}
+			}, 1000);
+
+			assertTrue(threads.size() <= 2);
+			assertEquals(Collections.singleton(context), contexts);
+			assertFalse(threads.contains(Thread.currentThread()));
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testNestedChunkerRunsSequentially() {
+		assertFalse(ParallelContext.isInParallelRegion());
+
+		final Set<Boolean> sameThread = Collections.synchronizedSet(
+			new HashSet<>());
+		final Set<Integer> innerSteps = Collections.synchronizedSet(
+			new HashSet<>());
+		ops.run(DefaultChunker.class, new Chunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				assertTrue(ParallelContext.isInParallelRegion());
+				final Thread outer = Thread.currentThread();
+				ops.run(DefaultChunker.class, new Chunk() {
+
+					@Override
+					public void execute(final int innerStart, final int innerStepSize,
+						final int innerNumSteps)
+					{
+						sameThread.add(outer == Thread.currentThread());
+						innerSteps.add(innerNumSteps);
+					}
+				}, 100);
+			}
+		}, 1000);
+
+		// every inner chunker processed all its elements on the outer worker
+		assertEquals(Collections.singleton(true), sameThread);
+		assertEquals(Collections.singleton(100), innerSteps);
+		assertFalse(ParallelContext.isInParallelRegion());
+	}
+
+}
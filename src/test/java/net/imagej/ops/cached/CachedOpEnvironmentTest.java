@@ -37,9 +37,13 @@ import java.util.ArrayList;
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.OpInfo;
 import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractBinaryHybridCF;
 import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imagej.ops.special.hybrid.BinaryHybridCF;
 import net.imagej.ops.special.hybrid.Hybrids;
 import net.imagej.ops.special.hybrid.UnaryHybridCF;
 import net.imglib2.img.Img;
@@ -72,6 +76,7 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 	public void initCustomOps() {
 		final ArrayList<OpInfo> customOps = new ArrayList<>();
 		customOps.add(new OpInfo(MyMin.class));
+		customOps.add(new OpInfo(MyAdd.class));
 
 		env = new CachedOpEnvironment(ops, customOps);
 
@@ -106,6 +111,45 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 		assertEquals(2.0, hybrid.compute1(imgB).getRealDouble(), 0.0);
 	}
 
+	@Test
+	public void testComputerNotCached() {
+		ctr = 0;
+
+		final UnaryComputerOp<Img<ByteType>, DoubleType> computer = Computers
+			.unary(env, Ops.Stats.Min.class, DoubleType.class, imgA);
+		final DoubleType out = new DoubleType();
+
+		// NB: Computers are mapped over reused inputs, so they always compute
+		computer.compute1(imgA, out);
+		assertEquals(1.0, out.get(), 0.0);
+		computer.compute1(imgA, out);
+		assertEquals(2.0, out.get(), 0.0);
+
+		// Function calls are cached independently
+		assertEquals(3.0, hybrid.compute1(imgA).get(), 0.0);
+		assertEquals(3.0, hybrid.compute1(imgA).get(), 0.0);
+	}
+
+	@Test
+	public void testCachingBinaryHybrid() {
+		ctr = 0;
+
+		final BinaryHybridCF<Img<ByteType>, Img<ByteType>, DoubleType> add =
+			Hybrids.binaryCF(env, Ops.Math.Add.class, DoubleType.class, imgA, imgB);
+
+		// Calling it twice should result in the same result
+		assertEquals(1.0, add.compute2(imgA, imgB).get(), 0.0);
+		assertEquals(1.0, add.compute2(imgA, imgB).get(), 0.0);
+
+		// Both inputs are part of the key
+		assertEquals(2.0, add.compute2(imgB, imgA).get(), 0.0);
+
+		// Used as a computer, the result is computed again
+		final DoubleType out = new DoubleType();
+		add.compute2(imgB, imgA, out);
+		assertEquals(3.0, out.get(), 0.0);
+	}
+
 	// some specialized ops to track number of counts
 	public static class MyMin extends AbstractUnaryHybridCF<Img<ByteType>, DoubleType>
 		implements Ops.Stats.Min
@@ -124,4 +168,26 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 
 	}
 
+	public static class MyAdd extends
+		AbstractBinaryHybridCF<Img<ByteType>, Img<ByteType>, DoubleType> implements
+		Ops.Math.Add
+	{
+
+		@Override
+		public DoubleType createOutput(final Img<ByteType> input1,
+			final Img<ByteType> input2)
+		{
+			return new DoubleType();
+		}
+
+		@Override
+		public void compute2(final Img<ByteType> input1, final Img<ByteType> input2,
+			final DoubleType output)
+		{
+			ctr++;
+			output.set(ctr);
+		}
+
+	}
+
 }
@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.imglib2.img.array.ArrayImgs;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link OpResultCache}.
+ */
+public class OpResultCacheTest {
+
+	@Test
+	public void testHitsAndMisses() {
+		final OpResultCache cache = new OpResultCache();
+		final Object input = new Object();
+		final Object[] args = { 1, "a" };
+
+		assertNull(cache.get(input, String.class, args));
+		cache.put(input, String.class, args, "result");
+		assertSame("result", cache.get(input, String.class, new Object[] { 1,
+			"a" }));
+
+		// different input, op or arguments are different keys
+		assertNull(cache.get(new Object(), String.class, args));
+		assertNull(cache.get(input, Integer.class, args));
+		assertNull(cache.get(input, String.class, new Object[] { 2, "a" }));
+
+		assertEquals(1, cache.getHits());
+		assertEquals(4, cache.getMisses());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testEvictEntries() {
+		final OpResultCache cache = new OpResultCache(2, Long.MAX_VALUE);
+		final Object[] args = {};
+		final Object a = new Object(), b = new Object(), c = new Object();
+		cache.put(a, String.class, args, "a");
+		cache.put(b, String.class, args, "b");
+
+		// touch a, so that b is the least recently used
+		assertSame("a", cache.get(a, String.class, args));
+		cache.put(c, String.class, args, "c");
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertSame("a", cache.get(a, String.class, args));
+		assertNull(cache.get(b, String.class, args));
+		assertSame("c", cache.get(c, String.class, args));
+	}
+
+	@Test
+	public void testEvictBytes() {
+		final OpResultCache cache = new OpResultCache(100, 1500);
+		final Object[] args = {};
+		final Object a = new Object(), b = new Object(), c = new Object();
+
+		// each result holds 1000 bytes, plus some overhead
+		cache.put(a, String.class, args, ArrayImgs.unsignedBytes(10, 100));
+		assertEquals(1, cache.size());
+		assertEquals(OpResultCache.estimateSize(ArrayImgs.unsignedBytes(10, 100)),
+			cache.getBytes());
+
+		cache.put(b, String.class, args, ArrayImgs.unsignedBytes(10, 100));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull(cache.get(a, String.class, args));
+
+		// results larger than the cache are not cached at all
+		cache.put(c, String.class, args, ArrayImgs.unsignedBytes(10, 1000));
+		assertNull(cache.get(c, String.class, args));
+		assertEquals(1, cache.size());
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.convert.imageType.ConvertIIs;
+import net.imagej.ops.convert.normalizeScale.NormalizeScaleRealTypes;
+import net.imagej.ops.convert.scale.ScaleRealTypes;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ConvertViews}.
+ */
+public class ConvertViewsTest extends AbstractOpTest {
+
+	private Img<ShortType> in;
+
+	@Before
+	public void createImage() {
+		in = ArrayImgs.shorts(10, 10);
+		short v = -1000;
+		for (final ShortType t : in) {
+			t.set(v);
+			v += 17;
+		}
+	}
+
+	@Test
+	public void testClip() {
+		final RandomAccessibleInterval<ByteType> view = ops.convert().clip(in,
+			new ByteType());
+		assertTrue(Intervals.equals(in, view));
+		final Cursor<ShortType> c = in.cursor();
+		for (final ByteType t : Views.flatIterable(view)) {
+			final short value = c.next().get();
+			assertEquals(Math.max(-128, Math.min(127, value)), t.get());
+		}
+	}
+
+	@Test
+	public void testCopy() {
+		final RandomAccessibleInterval<ByteType> view = ops.convert().copy(in,
+			new ByteType());
+		final Cursor<ShortType> c = in.cursor();
+		for (final ByteType t : Views.flatIterable(view)) {
+			assertEquals((byte) c.next().get(), t.get());
+		}
+	}
+
+	@Test
+	public void testScale() {
+		final Img<UnsignedByteType> expected = ArrayImgs.unsignedBytes(10, 10);
+		ops.run(ConvertIIs.class, expected, in,
+			new ScaleRealTypes<ShortType, UnsignedByteType>());
+		assertValues(expected, ops.convert().scale(in, new UnsignedByteType()));
+	}
+
+	@Test
+	public void testNormalizeScale() {
+		final Img<UnsignedByteType> expected = ArrayImgs.unsignedBytes(10, 10);
+		final NormalizeScaleRealTypes<ShortType, UnsignedByteType> normalize =
+			new NormalizeScaleRealTypes<>();
+		normalize.setEnvironment(ops);
+		normalize.initialize();
+		ops.run(ConvertIIs.class, expected, in, normalize);
+
+		final RandomAccessibleInterval<UnsignedByteType> view = ops.convert()
+			.normalizeScale(in, new UnsignedByteType());
+		assertValues(expected, view);
+
+		// NB: The view reads new values, but keeps the cached input range.
+		in.firstElement().set((short) 2000);
+		final UnsignedByteType value = new UnsignedByteType();
+		normalize.compute1(in.firstElement(), value);
+		assertTrue(value.get() != expected.firstElement().get());
+		assertEquals(value.get(), Views.flatIterable(view).firstElement().get());
+	}
+
+	// -- Helper methods --
+
+	private <T extends RealType<T>> void assertValues(final Img<T> expected,
+		final RandomAccessibleInterval<T> actual)
+	{
+		final Cursor<T> e = expected.cursor();
+		for (final T t : Views.flatIterable(actual)) {
+			assertEquals(e.next().getRealDouble(), t.getRealDouble(), 0);
+		}
+	}
+
+}
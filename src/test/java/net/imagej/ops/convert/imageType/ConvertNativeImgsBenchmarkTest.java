@@ -0,0 +1,130 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert.imageType;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+
+import net.imagej.ops.benchmark.AbstractOpBenchmark;
+import net.imagej.ops.convert.clip.ClipRealTypes;
+import net.imagej.ops.convert.copy.CopyRealTypes;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ByteArray;
+import net.imglib2.img.basictypeaccess.array.FloatArray;
+import net.imglib2.img.basictypeaccess.array.ShortArray;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Benchmarks the storage converters of {@link ConvertNativeImgs} against
+ * {@link ConvertIIs}, and against the general {@link ConvertArrays} loop which
+ * copying and clipping ran before.
+ */
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5)
+public class ConvertNativeImgsBenchmarkTest extends AbstractOpBenchmark {
+
+	private ArrayImg<UnsignedShortType, ShortArray> in;
+	private ArrayImg<FloatType, FloatArray> floats;
+	private ArrayImg<UnsignedByteType, ByteArray> bytes;
+
+	/** Parameters of the general loop, which copying and clipping leave as is. */
+	private double inMin = 0, factor = 1, outMin = 0;
+
+	/** Needed for JUnit-Benchmarks */
+	@Rule
+	public TestRule benchmarkRun = new BenchmarkRule();
+
+	@Before
+	public void initImgs() {
+		in = ArrayImgs.unsignedShorts(5000, 5000);
+		floats = ArrayImgs.floats(5000, 5000);
+		bytes = ArrayImgs.unsignedBytes(5000, 5000);
+		final short[] data = in.update(null).getCurrentStorageArray();
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (short) i;
+		}
+	}
+
+	@Test
+	public void testCopy() {
+		ops.run(ConvertNativeImgs.NativeImgToNativeImg.class, floats, in,
+			new CopyRealTypes<UnsignedShortType, FloatType>());
+	}
+
+	@Test
+	public void testCopyIIs() {
+		ops.run(ConvertIIs.class, floats, in,
+			new CopyRealTypes<UnsignedShortType, FloatType>());
+	}
+
+	@Test
+	public void testCopyGeneral() {
+		final short[] src = in.update(null).getCurrentStorageArray();
+		final float[] dst = floats.update(null).getCurrentStorageArray();
+		for (int i = 0; i < dst.length; i++) {
+			final double v = Math.min(Math.max(((src[i] & 0xffff) - inMin) / factor +
+				outMin, Double.NEGATIVE_INFINITY), Double.POSITIVE_INFINITY);
+			dst[i] = (float) v;
+		}
+	}
+
+	@Test
+	public void testClip() {
+		ops.run(ConvertNativeImgs.NativeImgToNativeImg.class, bytes, in,
+			new ClipRealTypes<UnsignedShortType, UnsignedByteType>());
+	}
+
+	@Test
+	public void testClipIIs() {
+		ops.run(ConvertIIs.class, bytes, in,
+			new ClipRealTypes<UnsignedShortType, UnsignedByteType>());
+	}
+
+	@Test
+	public void testClipGeneral() {
+		final short[] src = in.update(null).getCurrentStorageArray();
+		final byte[] dst = bytes.update(null).getCurrentStorageArray();
+		for (int i = 0; i < dst.length; i++) {
+			final double v = Math.min(Math.max(((src[i] & 0xffff) - inMin) / factor +
+				outMin, 0), 255);
+			dst[i] = (byte) Util.round(v);
+		}
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert.imageType;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.clip.ClipRealTypes;
+import net.imagej.ops.convert.copy.CopyRealTypes;
+import net.imagej.ops.convert.normalizeScale.NormalizeScaleRealTypes;
+import net.imagej.ops.convert.scale.ScaleRealTypes;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ConvertNativeImgs} and {@link ConvertArrays}.
+ */
+public class ConvertNativeImgsTest extends AbstractOpTest {
+
+	private static final long[] DIMS = { 5, 3, 2 };
+
+	@Test
+	public void testClipArrayImgs() {
+		final Img<ShortType> in = ArrayImgs.shorts(DIMS);
+		fill(in, -200, 17);
+		assertConvert(in, ArrayImgs.bytes(DIMS), ArrayImgs.bytes(DIMS),
+			new ClipRealTypes<ShortType, ByteType>());
+	}
+
+	@Test
+	public void testCopyPlanarImgs() {
+		final Img<UnsignedShortType> in = PlanarImgs.unsignedShorts(DIMS);
+		fill(in, 0, 2011);
+		assertConvert(in, PlanarImgs.floats(DIMS), PlanarImgs.floats(DIMS),
+			new CopyRealTypes<UnsignedShortType, FloatType>());
+	}
+
+	@Test
+	public void testScaleCellImgs() {
+		final Img<ShortType> in = cells(new ShortType());
+		fill(in, -32768, 2011);
+		assertConvert(in, cells(new UnsignedByteType()), cells(
+			new UnsignedByteType()),
+			new ScaleRealTypes<ShortType, UnsignedByteType>());
+	}
+
+	@Test
+	public void testNormalizeScaleCellImgs() {
+		final Img<FloatType> in = cells(new FloatType());
+		fill(in, -10, 0.75);
+		final NormalizeScaleRealTypes<FloatType, UnsignedByteType> normalize =
+			new NormalizeScaleRealTypes<>();
+		normalize.setEnvironment(ops);
+		normalize.initialize();
+		assertConvert(in, cells(new UnsignedByteType()), cells(
+			new UnsignedByteType()), normalize);
+	}
+
+	@Test
+	public void testMixedLayoutsUseMap() {
+		final Op op = ops.op(Ops.Convert.ImageType.class, ArrayImgs.bytes(DIMS),
+			PlanarImgs.shorts(DIMS), new CopyRealTypes<ShortType, ByteType>());
+		assertTrue(op instanceof ConvertIIs);
+	}
+
+	@Test
+	public void testUnsignedKernels() {
+		final byte[] bytes = { 0, 127, -128, -1 };
+		final float[] floats = new float[bytes.length];
+		ConvertArrays.unsignedByteToFloat(bytes, floats, 0, bytes.length, 0, 1, 0,
+			Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+		assertArrayEquals(new float[] { 0, 127, 128, 255 }, floats, 0);
+
+		final long[] longs = { -1L };
+		final double[] doubles = new double[1];
+		ConvertArrays.unsignedLongToDouble(longs, doubles, 0, 1, 0, 1, 0,
+			Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+		assertEquals(Math.pow(2, 64), doubles[0], 0);
+
+		final short[] shorts = new short[2];
+		ConvertArrays.doubleToUnsignedShort(new double[] { 65535.4, 70000 },
+			shorts, 0, 2, 0, 1, 0, 0, 65535);
+		assertEquals(65535, shorts[0] & 0xffff);
+		assertEquals(65535, shorts[1] & 0xffff);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Checks that the storage converter is matched, and that it gives the same
+	 * results as {@link ConvertIIs}.
+	 */
+	private <I extends RealType<I>, O extends RealType<O>> void assertConvert(
+		final Img<I> in, final Img<O> out, final Img<O> expected,
+		final RealTypeConverter<I, O> converter)
+	{
+		ops.run(ConvertIIs.class, expected, in, converter);
+
+		final Op op = ops.op(Ops.Convert.ImageType.class, out, in, converter);
+		assertTrue(op instanceof ConvertNativeImgs.NativeImgToNativeImgParallel);
+		op.run();
+
+		final Cursor<O> e = expected.cursor();
+		final Cursor<O> c = out.cursor();
+		while (e.hasNext()) {
+			assertEquals(e.next().getRealDouble(), c.next().getRealDouble(), 0);
+		}
+
+		// NB: Clear the output, so the sequential op must fill it on its own.
+		for (final O t : out) {
+			t.setZero();
+		}
+		ops.run(ConvertNativeImgs.NativeImgToNativeImg.class, out, in, converter);
+		e.reset();
+		c.reset();
+		while (e.hasNext()) {
+			assertEquals(e.next().getRealDouble(), c.next().getRealDouble(), 0);
+		}
+	}
+
+	private <T extends NativeType<T>> Img<T> cells(final T type) {
+		// NB: Cells which do not divide the dimensions evenly.
+		return new CellImgFactory<T>(2, 2, 2).create(DIMS, type);
+	}
+
+	private <T extends RealType<T>> void fill(final Img<T> img,
+		final double offset, final double step)
+	{
+		double v = offset;
+		for (final T t : img) {
+			t.setReal(v);
+			v += step;
+		}
+	}
+
+}
@@ -31,11 +31,20 @@
 package net.imagej.ops.eval;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imagej.ops.image.equation.CompiledEquation;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.Test;
 
@@ -61,4 +70,61 @@ public class EvalTest extends AbstractOpTest {
 		assertEquals(17, ops.run(DefaultEval.class, "a+b*c", vars));
 	}
 
+	@Test
+	public void testCompiledImages() {
+		final Img<DoubleType> a = ArrayImgs.doubles(new double[] { 1, 2, 3, 4 },
+			2, 2);
+		final Img<DoubleType> b = ArrayImgs.doubles(new double[] { 5, 6, 7, 8 },
+			2, 2);
+		final Map<String, Object> vars = new HashMap<>();
+		vars.put("a", a);
+		vars.put("b", b);
+		vars.put("c", 16.0);
+
+		assertTrue(ops.op(Ops.Eval.class, "a*b + sqrt(c)",
+			vars) instanceof CompiledEval);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<DoubleType> result =
+			(IterableInterval<DoubleType>) ops.eval("a*b + sqrt(c)", vars);
+
+		final Cursor<DoubleType> aCursor = a.cursor();
+		final Cursor<DoubleType> bCursor = b.cursor();
+		final Cursor<DoubleType> resultCursor = result.cursor();
+		while (aCursor.hasNext()) {
+			assertEquals(aCursor.next().get() * bCursor.next().get() + 4,
+				resultCursor.next().get(), 0);
+		}
+	}
+
+	@Test
+	public void testNotCompiled() {
+		// NB: The ops compute in the type of the images.
+		final Map<String, Object> vars = new HashMap<>();
+		vars.put("a", ArrayImgs.floats(2, 2));
+		assertFalse(ops.op(Ops.Eval.class, "a*a", vars) instanceof CompiledEval);
+		vars.put("a", ArrayImgs.doubles(2, 2));
+		vars.put("c", 7);
+		assertFalse(ops.op(Ops.Eval.class, "a + c/2",
+			vars) instanceof CompiledEval);
+
+		// NB: In JavaScript, ^ is a bitwise XOR.
+		assertFalse(ops.op(Ops.Image.Equation.class, ArrayImgs.doubles(2, 2),
+			"p[0] ^ 2") instanceof CompiledEquation);
+	}
+
+	@Test
+	public void testCompiledEquation() {
+		final Img<DoubleType> image = ArrayImgs.doubles(4, 3);
+		assertTrue(ops.op(Ops.Image.Equation.class, image,
+			"p[0] + 10*p[1]") instanceof CompiledEquation);
+		ops.image().equation(image, "p[0] + 10*p[1]");
+
+		final Cursor<DoubleType> c = image.localizingCursor();
+		while (c.hasNext()) {
+			c.fwd();
+			assertEquals(c.getLongPosition(0) + 10 * c.getLongPosition(1), c.get()
+				.get(), 0);
+		}
+	}
+
 }
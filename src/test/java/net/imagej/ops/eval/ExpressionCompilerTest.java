@@ -0,0 +1,154 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.eval;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import net.imagej.ops.eval.ExpressionCompiler.Syntax;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ExpressionCompiler}.
+ */
+public class ExpressionCompilerTest {
+
+	private static final double[] NO_VALUES = {};
+	private static final long[] NO_POSITION = {};
+
+	@Test
+	public void testPrecedence() {
+		assertEquals(17, eval("2.0+3.0*5"), 0);
+		assertEquals(25, eval("(2.0+3)*5"), 0);
+		assertEquals(-4, eval("-2.0^2"), 0);
+		assertEquals(0.5, eval("2.0^-1"), 0);
+		assertEquals(512, eval("2.0^3.0^2"), 0);
+		assertEquals(1, eval("5.0%2"), 0);
+		assertEquals(17, js("2+3*5"), 0);
+		assertEquals(1, js("5%2"), 0);
+	}
+
+	@Test
+	public void testEvalFunctions() {
+		assertEquals(3, eval("sqrt(9.0)"), 0);
+		assertEquals(Math.exp(1), eval("math.exp(1.0)"), 0);
+		assertEquals(Math.exp(0.5) - 1, eval("expMinusOne(0.5)"), 0);
+		assertEquals(-2, eval("round(-2.5)"), 0);
+	}
+
+	@Test
+	public void testJavaScriptFunctions() {
+		assertEquals(1, js("Math.cos(0)"), 0);
+		assertEquals(2, js("Math.max(1, 2)"), 0);
+		assertEquals(-2, js("Math.round(-2.5)"), 0);
+		assertEquals(Math.PI, js("Math.PI"), 0);
+	}
+
+	@Test
+	public void testVariables() {
+		final CompiledExpression e = ExpressionCompiler.compile("a*b + sqrt(c)",
+			Arrays.asList("a", "b"), Collections.singletonMap("c", 16.0),
+			Syntax.EVAL);
+		assertEquals(0, e.getPositionDimensions());
+		assertEquals(2 * 3 + 4, e.evaluate(new double[] { 2, 3 }, NO_POSITION),
+			0);
+	}
+
+	@Test
+	public void testPosition() {
+		final CompiledExpression e = ExpressionCompiler.compile("a + k*p[1]",
+			Arrays.asList("a"), Collections.singletonMap("k", 10),
+			Syntax.JAVASCRIPT);
+		assertEquals(2, e.getPositionDimensions());
+		assertEquals(2 + 10 * 7, e.evaluate(new double[] { 2 }, new long[] { 5,
+			7 }), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownVariable() {
+		ExpressionCompiler.compile("a + 1.0", Syntax.EVAL);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownFunction() {
+		ExpressionCompiler.compile("filter.gauss(1.0)", Syntax.EVAL);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTrailingInput() {
+		ExpressionCompiler.compile("1.0 + 2)", Syntax.EVAL);
+	}
+
+	@Test
+	public void testUnsupportedSyntax() {
+		// NB: The op evaluator computes these in integer arithmetic.
+		assertRejected("7 / 2", Syntax.EVAL);
+		assertRejected("sqrt(16)", Syntax.EVAL);
+		// NB: Neither syntax has comparisons or logical operators.
+		assertRejected("1.0 < 2.0", Syntax.EVAL);
+		assertRejected("1 && 2", Syntax.JAVASCRIPT);
+		assertRejected("!1", Syntax.JAVASCRIPT);
+		// NB: JavaScript has no power operator, and no global math functions.
+		assertRejected("2 ^ 3", Syntax.JAVASCRIPT);
+		assertRejected("sqrt(9)", Syntax.JAVASCRIPT);
+		// NB: The op evaluator has no Math object and no position.
+		assertRejected("Math.cos(0.0)", Syntax.EVAL);
+		assertRejected("Math.PI", Syntax.EVAL);
+		assertRejected("p[0]", Syntax.EVAL);
+	}
+
+	// -- Helper methods --
+
+	private double eval(final String expression) {
+		return ExpressionCompiler.compile(expression, Syntax.EVAL).evaluate(
+			NO_VALUES, NO_POSITION);
+	}
+
+	private double js(final String expression) {
+		return ExpressionCompiler.compile(expression, Syntax.JAVASCRIPT).evaluate(
+			NO_VALUES, NO_POSITION);
+	}
+
+	private void assertRejected(final String expression, final Syntax syntax) {
+		try {
+			ExpressionCompiler.compile(expression, syntax);
+			fail("Compiled " + expression);
+		}
+		catch (final IllegalArgumentException exc) {
+			// NB: Expected.
+		}
+	}
+
+}
@@ -33,27 +33,40 @@ package net.imagej.ops.filter;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
 import net.imagej.ops.filter.max.DefaultMaxFilter;
 import net.imagej.ops.filter.max.MaxFilterOp;
+import net.imagej.ops.filter.max.RectangleMaxFilter;
 import net.imagej.ops.filter.mean.DefaultMeanFilter;
 import net.imagej.ops.filter.mean.MeanFilterOp;
+import net.imagej.ops.filter.mean.RectangleMeanFilter;
 import net.imagej.ops.filter.median.DefaultMedianFilter;
 import net.imagej.ops.filter.median.MedianFilterOp;
+import net.imagej.ops.filter.median.RectangleMedianFilter;
 import net.imagej.ops.filter.min.DefaultMinFilter;
 import net.imagej.ops.filter.min.MinFilterOp;
+import net.imagej.ops.filter.min.RectangleMinFilter;
+import net.imagej.ops.filter.percentile.DefaultPercentileFilter;
+import net.imagej.ops.filter.percentile.PercentileFilterOp;
+import net.imagej.ops.filter.percentile.RectanglePercentileFilter;
 import net.imagej.ops.filter.sigma.DefaultSigmaFilter;
 import net.imagej.ops.filter.sigma.SigmaFilterOp;
 import net.imagej.ops.filter.variance.DefaultVarianceFilter;
+import net.imagej.ops.filter.variance.RectangleVarianceFilter;
 import net.imagej.ops.filter.variance.VarianceFilterOp;
+import net.imglib2.Cursor;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.algorithm.neighborhood.RectangleShape.NeighborhoodsIterableInterval;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.real.FloatType;
 import net.imglib2.util.Util;
 import net.imglib2.view.Views;
 
@@ -192,4 +205,101 @@ public class NonLinearFiltersTest extends AbstractOpTest {
 		assertEquals((byte)Util.round((sumSq - (sum * sum / 9)) / 8), out.firstElement().get());
 	}
 
+	/**
+	 * @see RectangleMaxFilter
+	 */
+	@Test
+	public void testRectangleMaxFilter() {
+		assertRectangleFilter(false, MaxFilterOp.class, RectangleMaxFilter.class,
+			DefaultMaxFilter.class);
+	}
+
+	/**
+	 * @see RectangleMinFilter
+	 */
+	@Test
+	public void testRectangleMinFilter() {
+		assertRectangleFilter(false, MinFilterOp.class, RectangleMinFilter.class,
+			DefaultMinFilter.class);
+	}
+
+	/**
+	 * @see RectangleMeanFilter
+	 */
+	@Test
+	public void testRectangleMeanFilter() {
+		assertRectangleFilter(true, MeanFilterOp.class, RectangleMeanFilter.class,
+			DefaultMeanFilter.class);
+	}
+
+	/**
+	 * @see RectangleVarianceFilter
+	 */
+	@Test
+	public void testRectangleVarianceFilter() {
+		assertRectangleFilter(true, VarianceFilterOp.class,
+			RectangleVarianceFilter.class, DefaultVarianceFilter.class);
+	}
+
+	/**
+	 * @see RectangleMedianFilter
+	 */
+	@Test
+	public void testRectangleMedianFilter() {
+		assertRectangleFilter(true, MedianFilterOp.class, RectangleMedianFilter.class,
+			DefaultMedianFilter.class);
+	}
+
+	/**
+	 * @see RectanglePercentileFilter
+	 */
+	@Test
+	public void testRectanglePercentileFilter() {
+		assertRectangleFilter(true, PercentileFilterOp.class,
+			RectanglePercentileFilter.class, DefaultPercentileFilter.class, 30.0);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Checks that the rectangle implementation is matched for a
+	 * {@link RectangleShape} and agrees with the default implementation on a
+	 * 3-D integer and floating point image.
+	 *
+	 * @param skipCenter whether to check shapes without their center, too
+	 * @param type the op type to match
+	 */
+	private void assertRectangleFilter(final boolean skipCenter,
+		final Class<? extends Op> type, final Class<? extends Op> rectangleType,
+		final Class<? extends Op> defaultType, final Object... params)
+	{
+		final Img<ByteType> bytes = generateByteArrayTestImg(true, 9, 7, 5);
+		final Img<FloatType> floats = ArrayImgs.floats(9, 7, 5);
+		final Cursor<ByteType> b = bytes.cursor();
+		for (final FloatType f : floats) {
+			f.setReal(b.next().getRealDouble() / 3);
+		}
+		final RectangleShape[] shapes = skipCenter ? new RectangleShape[] {
+			new RectangleShape(2, false), new RectangleShape(2, true) }
+			: new RectangleShape[] { new RectangleShape(2, false) };
+		for (final RectangleShape rect : shapes) {
+			for (final Img<?> img : Arrays.asList(bytes, floats)) {
+				assertMatchesDefault(type, rectangleType, defaultType, ArrayImgs
+					.doubles(9, 7, 5), ArrayImgs.doubles(9, 7, 5), 1e-10, args(img, rect,
+						params));
+			}
+		}
+	}
+
+	private Object[] args(final Img<?> input, final RectangleShape rect,
+		final Object... params)
+	{
+		final Object[] args = new Object[3 + params.length];
+		args[0] = input;
+		args[1] = rect;
+		args[2] = oobFactory;
+		System.arraycopy(params, 0, args, 3, params.length);
+		return args;
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imagej.ops.logic.PrimitiveLogic;
+import net.imagej.ops.math.PrimitiveMath;
+import net.imagej.ops.math.UnaryRealTypeMath;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link MapKernels}.
+ */
+public class MapKernelsTest extends AbstractOpTest {
+
+	@Test
+	public void testArrays() {
+		final double[] in = { -1.5, 0, 2.5 };
+		final double[] out = new double[3];
+		MapKernels.map(in, out, new PrimitiveMath.DoubleAbs());
+		assertArrayEquals(new double[] { 1.5, 0, 2.5 }, out, 0);
+
+		final int[] sum = new int[3];
+		MapKernels.map(new int[] { 1, 2, 3 }, new int[] { 4, 5, 6 }, sum,
+			new PrimitiveMath.IntegerAdd());
+		assertArrayEquals(new int[] { 5, 7, 9 }, sum);
+
+		final boolean[] less = new boolean[3];
+		MapKernels.map(new float[] { 1, 5, 3 }, new float[] { 2, 4, 3 }, less,
+			new PrimitiveLogic.FloatLessThan());
+		assertEquals(true, less[0]);
+		assertEquals(false, less[1]);
+		assertEquals(false, less[2]);
+
+		final byte[] bytes = new byte[3];
+		MapKernels.map(new byte[] { 1, 2, 127 }, bytes, a -> (byte) (a + 1));
+		assertArrayEquals(new byte[] { 2, 3, -128 }, bytes);
+
+		final short[] shorts = new short[3];
+		MapKernels.map(new short[] { 1, 2, 3 }, new short[] { 4, 5, 6 }, shorts,
+			(a, b) -> (short) (a * b));
+		assertArrayEquals(new short[] { 4, 10, 18 }, shorts);
+	}
+
+	@Test
+	public void testImages() {
+		final Img<FloatType> in1 = ArrayImgs.floats(4, 3, 2);
+		final Img<FloatType> in2 = PlanarImgs.floats(4, 3, 2);
+		final Img<FloatType> out = PlanarImgs.floats(4, 3, 2);
+
+		int i = 0;
+		final Cursor<FloatType> c1 = in1.cursor();
+		final Cursor<FloatType> c2 = in2.cursor();
+		while (c1.hasNext()) {
+			c1.next().set(i);
+			c2.next().set(2 * i++);
+		}
+
+		MapKernels.map(in1, in2, out, (a, b) -> b - a);
+
+		i = 0;
+		for (final FloatType t : out) {
+			assertEquals(i++, t.get(), 0);
+		}
+
+		MapKernels.map(out, out, a -> -a);
+		i = 0;
+		for (final FloatType t : out) {
+			assertEquals(-i++, t.get(), 0);
+		}
+	}
+
+	@Test
+	public void testUnsignedImages() {
+		final Img<UnsignedByteType> bytes = PlanarImgs.unsignedBytes(16, 16, 2);
+		int i = 0;
+		for (final UnsignedByteType t : bytes) {
+			t.set(i++ % 256);
+		}
+
+		// NB: Byte kernels see the unsigned elements as signed bytes.
+		MapKernels.map(bytes, bytes, a -> (byte) (a + 1));
+		i = 0;
+		for (final UnsignedByteType t : bytes) {
+			assertEquals((i++ + 1) % 256, t.get());
+		}
+
+		final Img<UnsignedShortType> shorts = ArrayImgs.unsignedShorts(5, 4);
+		for (final UnsignedShortType t : shorts) {
+			t.set(65535);
+		}
+		MapKernels.map(shorts, shorts, shorts, (a, b) -> (short) (a + b));
+		for (final UnsignedShortType t : shorts) {
+			assertEquals(65534, t.get());
+		}
+	}
+
+	@Test
+	public void testKernelMaps() {
+		final Img<DoubleType> in1 = ArrayImgs.doubles(4, 3, 2);
+		final Img<DoubleType> in2 = PlanarImgs.doubles(4, 3, 2);
+		final Img<DoubleType> out = PlanarImgs.doubles(4, 3, 2);
+
+		int i = 0;
+		final Cursor<DoubleType> c1 = in1.cursor();
+		final Cursor<DoubleType> c2 = in2.cursor();
+		while (c1.hasNext()) {
+			c1.next().set(-i);
+			c2.next().set(i++);
+		}
+
+		final UnaryRealTypeMath.Abs<DoubleType, DoubleType> abs =
+			new UnaryRealTypeMath.Abs<>();
+		assertTrue(ops.op(Ops.Map.class, out, in1,
+			abs) instanceof MapNativeImgs.DoubleKernelNativeImgToNativeImg);
+		ops.run(Ops.Map.class, out, in1, abs);
+		i = 0;
+		for (final DoubleType t : out) {
+			assertEquals(i++, t.get(), 0);
+		}
+
+		final PrimitiveMath.DoubleAdd add = new PrimitiveMath.DoubleAdd();
+		assertTrue(ops.op(Ops.Map.class, out, in1, in2,
+			add) instanceof MapNativeImgs.DoubleKernelNativeImgAndNativeImgToNativeImg);
+		ops.run(Ops.Map.class, out, in1, in2, add);
+		for (final DoubleType t : out) {
+			assertEquals(0, t.get(), 0);
+		}
+	}
+
+}
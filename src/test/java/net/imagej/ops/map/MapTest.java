@@ -31,16 +31,26 @@
 package net.imagej.ops.map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
 
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.special.inplace.BinaryInplaceOp;
 import net.imagej.ops.special.inplace.Inplaces;
 import net.imglib2.Cursor;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.planar.PlanarImgs;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -81,6 +91,123 @@ public class MapTest extends AbstractOpTest {
 			assertEquals(ps.get(), 0);
 	}
 
+	@Test
+	public void testNativeImgs() {
+		final Img<ByteType> in = generateByteArrayTestImg(true, 10, 10, 3);
+		final Img<ByteType> out = PlanarImgs.bytes(10, 10, 3);
+		final Img<ByteType> outParallel = PlanarImgs.bytes(10, 10, 3);
+
+		final Op abs = Computers.unary(ops, Ops.Math.Abs.class, ByteType.class,
+			ByteType.class);
+		assertTrue(ops.op(Ops.Map.class, out, in,
+			abs) instanceof MapNativeImgs.NativeImgToNativeImgParallel);
+		ops.run(MapNativeImgs.NativeImgToNativeImg.class, out, in, abs);
+		ops.run(MapNativeImgs.NativeImgToNativeImgParallel.class, outParallel, in,
+			abs);
+
+		final Cursor<ByteType> inCursor = in.cursor();
+		final Cursor<ByteType> outCursor = out.cursor();
+		final Cursor<ByteType> outParallelCursor = outParallel.cursor();
+		while (inCursor.hasNext()) {
+			final byte expected = (byte) Math.abs(inCursor.next().get());
+			assertEquals(expected, outCursor.next().get());
+			assertEquals(expected, outParallelCursor.next().get());
+		}
+
+		final Img<ByteType> sum = PlanarImgs.bytes(10, 10, 3);
+		final Op add = Computers.binary(ops, Ops.Math.Add.class, ByteType.class,
+			ByteType.class, ByteType.class);
+		ops.run(MapNativeImgs.NativeImgAndNativeImgToNativeImgParallel.class, sum,
+			in, out, add);
+
+		final Cursor<ByteType> sumCursor = sum.cursor();
+		inCursor.reset();
+		outCursor.reset();
+		while (inCursor.hasNext()) {
+			assertEquals((byte) (inCursor.next().get() + outCursor.next().get()),
+				sumCursor.next().get());
+		}
+	}
+
+	@Test
+	public void testFused() {
+		final Img<ByteType> in = generateByteArrayTestImg(true, 10, 10, 3);
+		final Img<ByteType> out = PlanarImgs.bytes(10, 10, 3);
+
+		final UnaryComputerOp<ByteType, ByteType> abs = Computers.unary(ops,
+			Ops.Math.Abs.class, ByteType.class, ByteType.class);
+		final UnaryComputerOp<ByteType, ByteType> negate = Computers.unary(ops,
+			Ops.Math.Negate.class, ByteType.class, ByteType.class);
+		final UnaryComputerOp<ByteType, ByteType> sqr = Computers.unary(ops,
+			Ops.Math.Sqr.class, ByteType.class, ByteType.class);
+		final List<UnaryComputerOp<ByteType, ByteType>> chain = Arrays.asList(
+			abs, negate, sqr, abs);
+		final List<ByteType> types = Arrays.asList(new ByteType(), new ByteType(),
+			new ByteType());
+
+		assertTrue(ops.op(Ops.Map.class, out, in, chain,
+			types) instanceof MapFused);
+		ops.map(out, in, chain, types);
+
+		final ByteType tmp1 = new ByteType();
+		final ByteType tmp2 = new ByteType();
+		final Cursor<ByteType> inCursor = in.cursor();
+		final Cursor<ByteType> outCursor = out.cursor();
+		while (inCursor.hasNext()) {
+			abs.compute1(inCursor.next(), tmp1);
+			negate.compute1(tmp1, tmp2);
+			sqr.compute1(tmp2, tmp1);
+			abs.compute1(tmp1, tmp2);
+			assertEquals(tmp2.get(), outCursor.next().get());
+		}
+	}
+
+	@Test
+	public void testFusedMixedTypes() {
+		final Img<FloatType> in = ArrayImgs.floats(10, 10);
+		float value = 0;
+		for (final FloatType t : in) {
+			t.set(value);
+			value += 2.5f;
+		}
+		final Img<UnsignedByteType> out = ArrayImgs.unsignedBytes(10, 10);
+
+		// NB: The intermediate types are those of the output samples.
+		final UnaryComputerOp<FloatType, DoubleType> sqr = Computers.unary(ops,
+			Ops.Math.Sqr.class, new DoubleType(), new FloatType());
+		final UnaryComputerOp<DoubleType, DoubleType> sqrt = Computers.unary(ops,
+			Ops.Math.Sqrt.class, new DoubleType(), new DoubleType());
+		final UnaryComputerOp<DoubleType, UnsignedByteType> floor = Computers
+			.unary(ops, Ops.Math.Floor.class, new UnsignedByteType(),
+				new DoubleType());
+		final List<UnaryComputerOp<?, ?>> chain = Arrays.asList(sqr, sqrt, floor);
+
+		assertTrue(ops.op(Ops.Map.class, out, in, chain) instanceof MapFused);
+		ops.map(out, in, chain);
+
+		// NB: The squares exceed the range of the output type.
+		final Cursor<FloatType> inCursor = in.cursor();
+		final Cursor<UnsignedByteType> outCursor = out.cursor();
+		while (inCursor.hasNext()) {
+			assertEquals((int) Math.floor(inCursor.next().get()), outCursor.next()
+				.get());
+		}
+	}
+
+	@Test
+	public void testFusedMismatchedTypes() {
+		final Img<FloatType> in = ArrayImgs.floats(10, 10);
+		final Img<UnsignedByteType> out = ArrayImgs.unsignedBytes(10, 10);
+		final UnaryComputerOp<DoubleType, DoubleType> sqrt = Computers.unary(ops,
+			Ops.Math.Sqrt.class, new DoubleType(), new DoubleType());
+		final UnaryComputerOp<DoubleType, UnsignedByteType> floor = Computers
+			.unary(ops, Ops.Math.Floor.class, new UnsignedByteType(),
+				new DoubleType());
+
+		thrown.expect(IllegalArgumentException.class);
+		ops.op(Ops.Map.class, out, in, Arrays.asList(sqrt, floor));
+	}
+
 	@Test
 	public void testIIAndIIInplace() {
 		final Img<ByteType> first = generateByteArrayTestImg(true, 10, 10);
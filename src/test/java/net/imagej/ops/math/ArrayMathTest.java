@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ArrayMath}.
+ */
+public class ArrayMathTest {
+
+	@Test
+	public void testArithmetic() {
+		final byte[] out = new byte[3];
+		ArrayMath.add(new byte[] { 1, 100, -128 }, new byte[] { 2, 100, -1 },
+			out);
+		assertArrayEquals(new byte[] { 3, -56, 127 }, out);
+
+		final float[] quotient = new float[2];
+		ArrayMath.divide(new float[] { 1, 3 }, 2f, quotient);
+		assertArrayEquals(new float[] { 0.5f, 1.5f }, quotient, 0);
+	}
+
+	@Test
+	public void testDivideByteTable() {
+		final byte[] a = new byte[1000];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = (byte) (i * 31);
+		}
+		for (final byte value : new byte[] { 1, -1, 3, -7, 127, -128 }) {
+			final byte[] out = new byte[a.length];
+			final byte[] unsigned = new byte[a.length];
+			ArrayMath.divide(a, value, out);
+			ArrayMath.divideUnsigned(a, value, unsigned);
+			for (int i = 0; i < a.length; i++) {
+				assertEquals((byte) (a[i] / value), out[i]);
+				assertEquals((a[i] & 0xff) / (value & 0xff), unsigned[i] & 0xff);
+			}
+		}
+	}
+
+	@Test
+	public void testDivideShortTable() {
+		final short[] a = new short[70000];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = (short) (i * 7919);
+		}
+		for (final short value : new short[] { 1, -1, 3, 255, -32768, 9999 }) {
+			final short[] out = new short[a.length];
+			final short[] unsigned = new short[a.length];
+			ArrayMath.divide(a, value, out);
+			ArrayMath.divideUnsigned(a, value, unsigned);
+			for (int i = 0; i < a.length; i++) {
+				assertEquals((short) (a[i] / value), out[i]);
+				assertEquals((a[i] & 0xffff) / (value & 0xffff), unsigned[i] &
+					0xffff);
+			}
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testDivideTableByZero() {
+		ArrayMath.divide(new byte[1000], (byte) 0, new byte[1000]);
+	}
+
+}
@@ -11,7 +11,10 @@ import net.imglib2.Cursor;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
 import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ShortArray;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
 import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Before;
@@ -34,6 +37,12 @@ public class MathBenchmarkTest extends AbstractOpBenchmark {
 
 	Img<ByteType> byteimg;
 
+	ArrayImg<UnsignedShortType, ShortArray> shortimg;
+	short[] short1;
+
+	/** Divisor which keeps the data unchanged across rounds. */
+	short divisor = 1;
+
 	long x = 5000;
 	long y = 5000;
 	long size = x * y;
@@ -68,6 +77,12 @@ public class MathBenchmarkTest extends AbstractOpBenchmark {
 		byteimg = new ArrayImgFactory<ByteType>().create(new long[] { 20000,
 			20000 }, new ByteType());
 
+		shortimg = ArrayImgs.unsignedShorts(x, y);
+		short1 = shortimg.update(null).getCurrentStorageArray();
+		for (int i = 0; i < size; i++) {
+			short1[i] = (short) i;
+		}
+
 		float1 = new float[(int) size];
 		float2 = new float[(int) size];
 		float3 = new float[(int) size];
@@ -93,6 +108,45 @@ public class MathBenchmarkTest extends AbstractOpBenchmark {
 		ops.run(IIToIIOutputII.Divide.class, img3, img2, img1);
 	}
 
+	@Test
+	public void testDivideNativeImg() {
+		ops.run(NativeImgMath.DivideFloat.class, img3, img2, img1);
+	}
+
+	@Test
+	public void testDivideArrayMath() {
+		ArrayMath.divide(float2, float1, float3);
+	}
+
+	@Test
+	public void testDivideInplace() {
+		divideOp().mutate1(img2, img1);
+	}
+
+	@Test
+	public void testDivideInplaceWithCursorExplicit() {
+		// NB: The loop which IIToIIOutputII ran before using NativeImgMath.
+		final Cursor<FloatType> cursor = img2.cursor();
+		final Cursor<FloatType> cursorI = img1.cursor();
+		while (cursor.hasNext()) {
+			cursor.next().div(cursorI.next());
+		}
+	}
+
+	@Test
+	public void testDivideConstantArrayImage() {
+		ops.run(ConstantToArrayImage.DivideUnsignedShort.class, shortimg,
+			divisor);
+	}
+
+	@Test
+	public void testDivideConstantExplicit() {
+		// NB: The loop which ConstantToArrayImage ran before using ArrayMath.
+		for (int i = 0; i < short1.length; i++) {
+			short1[i] /= divisor;
+		}
+	}
+
 	@Test
 	public void testDivideHandleZero() {
 		ops.run(DivideHandleZeroMap.class, img1, img2);
@@ -123,4 +177,9 @@ public class MathBenchmarkTest extends AbstractOpBenchmark {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	private IIToIIOutputII.Divide<FloatType> divideOp() {
+		return ops.op(IIToIIOutputII.Divide.class, img2, img2, img1);
+	}
+
 }
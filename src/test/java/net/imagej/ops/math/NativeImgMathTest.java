@@ -0,0 +1,201 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link NativeImgMath} and {@link ConstantToCellImage}.
+ */
+public class NativeImgMathTest extends AbstractOpTest {
+
+	private static final long[] DIMS = { 5, 3, 2 };
+
+	@Test
+	public void testAddArrayImgs() {
+		assertAdd(ArrayImgs.floats(DIMS), ArrayImgs.floats(DIMS), ArrayImgs
+			.floats(DIMS));
+	}
+
+	@Test
+	public void testAddPlanarImgs() {
+		assertAdd(PlanarImgs.floats(DIMS), PlanarImgs.floats(DIMS), PlanarImgs
+			.floats(DIMS));
+	}
+
+	@Test
+	public void testAddCellImgs() {
+		assertAdd(cells(new FloatType()), cells(new FloatType()), cells(
+			new FloatType()));
+	}
+
+	@Test
+	public void testMixedLayoutsUseCursors() {
+		final Img<FloatType> in1 = ArrayImgs.floats(DIMS);
+		final Img<FloatType> in2 = PlanarImgs.floats(DIMS);
+		final Img<FloatType> out = ArrayImgs.floats(DIMS);
+		final Op op = ops.op(Ops.Math.Add.class, out, in1, in2);
+		assertTrue(op instanceof IIToIIOutputII.Add);
+	}
+
+	@Test
+	public void testDivideUnsigned() {
+		final Img<UnsignedByteType> in1 = cells(new UnsignedByteType());
+		final Img<UnsignedByteType> in2 = cells(new UnsignedByteType());
+		final Img<UnsignedByteType> out = cells(new UnsignedByteType());
+		for (final UnsignedByteType t : in1) {
+			t.set(250);
+		}
+		for (final UnsignedByteType t : in2) {
+			t.set(5);
+		}
+
+		final Op op = ops.op(Ops.Math.Divide.class, out, in1, in2);
+		assertTrue(op instanceof NativeImgMath.DivideUnsignedByte);
+		op.run();
+		for (final UnsignedByteType t : out) {
+			assertEquals(50, t.get());
+		}
+	}
+
+	@Test
+	public void testInplaceStorage() {
+		final Img<UnsignedByteType> arg = cells(new UnsignedByteType());
+		final Img<UnsignedByteType> in = cells(new UnsignedByteType());
+		for (final UnsignedByteType t : arg) {
+			t.set(250);
+		}
+		for (final UnsignedByteType t : in) {
+			t.set(5);
+		}
+
+		@SuppressWarnings("unchecked")
+		final IIToIIOutputII.Divide<UnsignedByteType> op = ops.op(
+			IIToIIOutputII.Divide.class, arg, arg, in);
+		op.mutate1(arg, in);
+		for (final UnsignedByteType t : arg) {
+			assertEquals(50, t.get());
+		}
+		op.mutate2(arg, in);
+		for (final UnsignedByteType t : in) {
+			assertEquals(10, t.get());
+		}
+	}
+
+	@Test
+	public void testConstantCellImg() {
+		final Img<UnsignedByteType> img = cells(new UnsignedByteType());
+		for (final UnsignedByteType t : img) {
+			t.set(200);
+		}
+		ops.run(ConstantToCellImage.DivideUnsignedByte.class, img, (byte) 4);
+		for (final UnsignedByteType t : img) {
+			assertEquals(50, t.get());
+		}
+		ops.math().add(img, (byte) 7);
+		for (final UnsignedByteType t : img) {
+			assertEquals(57, t.get());
+		}
+	}
+
+	@Test
+	public void testUnaryFunction() {
+		final Img<FloatType> in = cells(new FloatType());
+		final Img<FloatType> out = cells(new FloatType());
+		fill(in, 0);
+
+		final Op op = ops.op(Ops.Math.Sqrt.class, out, in);
+		assertTrue(op instanceof NativeImgMath.SqrtFloat);
+		op.run();
+		final Cursor<FloatType> inCursor = in.cursor();
+		final Cursor<FloatType> outCursor = out.cursor();
+		while (inCursor.hasNext()) {
+			assertEquals((float) Math.sqrt(inCursor.next().get()), outCursor.next()
+				.get(), 0);
+		}
+
+		ops.math().negate(out, in);
+		for (final FloatType t : out) {
+			assertTrue(t.get() <= 0);
+		}
+	}
+
+	// -- Helper methods --
+
+	private void assertAdd(final Img<FloatType> in1, final Img<FloatType> in2,
+		final Img<FloatType> out)
+	{
+		fill(in1, 0);
+		fill(in2, 100);
+
+		final Op op = ops.op(Ops.Math.Add.class, out, in1, in2);
+		assertTrue(op instanceof NativeImgMath.AddFloat);
+		op.run();
+
+		final Cursor<FloatType> c1 = in1.cursor();
+		final Cursor<FloatType> c2 = in2.cursor();
+		final Cursor<FloatType> cOut = out.cursor();
+		while (c1.hasNext()) {
+			assertEquals(c1.next().get() + c2.next().get(), cOut.next().get(), 0);
+		}
+	}
+
+	private <T extends NativeType<T>> Img<T> cells(final T type) {
+		// NB: Cells which do not divide the dimensions evenly.
+		return new CellImgFactory<T>(2, 2, 2).create(DIMS, type);
+	}
+
+	private <T extends RealType<T>> void fill(final Img<T> img,
+		final int offset)
+	{
+		int i = offset;
+		for (final T t : img) {
+			t.setReal(i++);
+		}
+	}
+
+}
@@ -2,12 +2,14 @@
 package net.imagej.ops.morphology.dilate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
 import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.algorithm.morphology.Dilation;
@@ -81,6 +83,47 @@ public class DilationTest extends AbstractOpTest {
 			assertEquals(c1.next().get(), c2.next().get());
 	}
 
+	@Test
+	public void testRectangleDilate() {
+		final Shape shape = new RectangleShape(2, false);
+		assertSame(RectangleDilate.class, ops.op(Ops.Morphology.Dilate.class,
+			Img.class, in, shape, false).getClass());
+		@SuppressWarnings("unchecked")
+		final Img<ByteType> out1 = (Img<ByteType>) ops.run(RectangleDilate.class,
+			Img.class, in, shape, false);
+		final Img<ByteType> out2 = Dilation.dilate(in, shape, 1);
+		final Cursor<ByteType> c1 = out1.cursor();
+		final Cursor<ByteType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
+	@Test
+	public void testRectangleDilateBitType() {
+		final Shape shape = new RectangleShape(1, false);
+		@SuppressWarnings("unchecked")
+		final Img<BitType> out1 = (Img<BitType>) ops.run(RectangleDilate.class,
+			Img.class, bitIn, shape, false);
+		final Img<BitType> out2 = Dilation.dilate(bitIn, shape, 1);
+		final Cursor<BitType> c1 = out1.cursor();
+		final Cursor<BitType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
+	@Test
+	public void testRectangleDilateFull() {
+		final Shape shape = new RectangleShape(2, false);
+		@SuppressWarnings("unchecked")
+		final Img<ByteType> out1 = (Img<ByteType>) ops.run(RectangleDilate.class,
+			Img.class, in, shape, true);
+		final Img<ByteType> out2 = Dilation.dilateFull(in, shape, 1);
+		final Cursor<ByteType> c1 = out1.cursor();
+		final Cursor<ByteType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
 	@Test
 	public void testListDilate() {
 		final List<Shape> shapes = new ArrayList<Shape>();
@@ -2,12 +2,14 @@
 package net.imagej.ops.morphology.erode;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
 import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.algorithm.morphology.Erosion;
@@ -82,6 +84,47 @@ public class ErosionTest extends AbstractOpTest {
 			assertEquals(c1.next().get(), c2.next().get());
 	}
 
+	@Test
+	public void testRectangleErode() {
+		final Shape shape = new RectangleShape(2, false);
+		assertSame(RectangleErode.class, ops.op(Ops.Morphology.Erode.class,
+			Img.class, in, shape, false).getClass());
+		@SuppressWarnings("unchecked")
+		final Img<ByteType> out1 = (Img<ByteType>) ops.run(RectangleErode.class,
+			Img.class, in, shape, false);
+		final Img<ByteType> out2 = Erosion.erode(in, shape, 1);
+		final Cursor<ByteType> c1 = out1.cursor();
+		final Cursor<ByteType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
+	@Test
+	public void testRectangleErodeBitType() {
+		final Shape shape = new RectangleShape(1, false);
+		@SuppressWarnings("unchecked")
+		final Img<BitType> out1 = (Img<BitType>) ops.run(RectangleErode.class,
+			Img.class, bitIn, shape, false);
+		final Img<BitType> out2 = Erosion.erode(bitIn, shape, 1);
+		final Cursor<BitType> c1 = out1.cursor();
+		final Cursor<BitType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
+	@Test
+	public void testRectangleErodeFull() {
+		final Shape shape = new RectangleShape(2, false);
+		@SuppressWarnings("unchecked")
+		final Img<ByteType> out1 = (Img<ByteType>) ops.run(RectangleErode.class,
+			Img.class, in, shape, true);
+		final Img<ByteType> out2 = Erosion.erodeFull(in, shape, 1);
+		final Cursor<ByteType> c1 = out1.cursor();
+		final Cursor<ByteType> c2 = out2.cursor();
+		while (c1.hasNext())
+			assertEquals(c1.next().get(), c2.next().get());
+	}
+
 //	@Test
 	public void testListErode() {
 		final List<Shape> shapes = new ArrayList<Shape>();
@@ -0,0 +1,153 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.thread.chunker.ChunkerOp;
+import net.imagej.ops.thread.chunker.ReducingChunk;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ParallelStats}, {@link ReducingChunk} and merging of
+ * {@link StatsSummary}s.
+ */
+public class ParallelStatsTest extends AbstractOpTest {
+
+	private static final double DELTA = 1e-6;
+
+	private Img<FloatType> img;
+
+	@Before
+	public void createImage() {
+		img = generateFloatArrayTestImg(true, 512, 512);
+		// NB: Keep the values positive, for the logs and inverses.
+		for (final FloatType t : img) {
+			t.set(Math.abs(t.get()) + 1);
+		}
+	}
+
+	@Test
+	public void testMatching() {
+		assertTrue(ops.op(Ops.Stats.Variance.class, img) instanceof
+			ParallelStats.Variance);
+		assertTrue(ops.op(Ops.Stats.Summary.class,
+			img) instanceof ParallelStats.Summary);
+	}
+
+	@Test
+	public void testStats() {
+		assertStat(IterableMean.class, ops.stats().mean(img));
+		assertStat(IterableVariance.class, ops.stats().variance(img));
+		assertStat(IterableStandardDeviation.class, ops.stats().stdDev(img));
+		assertStat(IterableMin.class, ops.stats().min(img));
+		assertStat(IterableMax.class, ops.stats().max(img));
+		assertStat(DefaultSum.class, ops.stats().sum(img));
+		assertStat(DefaultSumOfLogs.class, ops.stats().sumOfLogs(img));
+		assertStat(DefaultMoment2AboutMean.class, ops.stats().moment2AboutMean(
+			img));
+		assertStat(DefaultMoment3AboutMean.class, ops.stats().moment3AboutMean(
+			img));
+	}
+
+	@Test
+	public void testMergedSummary() {
+		final StatsSummary sequential = new StatsSummary();
+		final StatsSummary first = new StatsSummary();
+		final StatsSummary second = new StatsSummary();
+		int i = 0;
+		for (final FloatType t : img) {
+			sequential.add(t.get());
+			(i++ % 3 == 0 ? first : second).add(t.get());
+		}
+		first.merge(second);
+
+		assertEquals(sequential.getCount(), first.getCount());
+		assertEquals(sequential.getMean(), first.getMean(), DELTA);
+		assertEquals(sequential.getVariance(), first.getVariance(), DELTA);
+		assertEquals(sequential.getSkewness(), first.getSkewness(), DELTA);
+		assertEquals(sequential.getKurtosis(), first.getKurtosis(), DELTA);
+
+		final StatsSummary parallel = ops.stats().summary(img);
+		assertEquals(sequential.getCount(), parallel.getCount());
+		assertEquals(sequential.getSkewness(), parallel.getSkewness(), DELTA);
+		assertEquals(sequential.getKurtosis(), parallel.getKurtosis(), DELTA);
+	}
+
+	@Test
+	public void testReducingChunk() {
+		final ReducingChunk<long[]> chunk = new ReducingChunk<long[]>() {
+
+			@Override
+			protected long[] createPartial() {
+				return new long[1];
+			}
+
+			@Override
+			protected void accumulate(final long[] partial, final int startIndex,
+				final int stepSize, final int numSteps)
+			{
+				for (int i = 0; i < numSteps; i++) {
+					partial[0] += startIndex + i * stepSize;
+				}
+			}
+
+			@Override
+			protected void merge(final long[] result, final long[] partial) {
+				result[0] += partial[0];
+			}
+		};
+		ops.run(ChunkerOp.class, chunk, 100000);
+		assertEquals(100000L * 99999 / 2, chunk.getResult()[0]);
+	}
+
+	// -- Helper methods --
+
+	private void assertStat(final Class<? extends Op> sequential,
+		final RealType<?> parallel)
+	{
+		final DoubleType expected = new DoubleType();
+		ops.run(sequential, expected, img);
+		assertEquals(expected.get(), parallel.getRealDouble(), DELTA * Math.max(1,
+			Math.abs(expected.get())));
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imagej.ops.cached.CachedOpEnvironment;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultSummary}, {@link StatsSummary} and {@link SummaryStats}.
+ */
+public class SummaryTest extends AbstractOpTest {
+
+	private static final double DELTA = 1e-8;
+
+	private Img<UnsignedByteType> img;
+
+	@Before
+	public void createImage() {
+		img = generateRandomlyFilledUnsignedByteTestImgWithSeed(new long[] { 100,
+			100 }, 1234567890L);
+		// NB: Avoid zeros, whose logs and inverses are infinite.
+		for (final UnsignedByteType t : img) {
+			t.set(t.get() + 1);
+		}
+	}
+
+	@Test
+	public void testSummary() {
+		final StatsSummary summary = ops.stats().summary(img);
+		assertEquals(img.size(), summary.getCount());
+		assertEquals(value(ops.stats().min(img)), summary.getMin(), 0);
+		assertEquals(value(ops.stats().max(img)), summary.getMax(), 0);
+		assertEquals(value(ops.stats().sum(img)), summary.getSum(), DELTA);
+		assertEquals(value(ops.stats().sumOfSquares(img)), summary
+			.getSumOfSquares(), 1e-4);
+		assertEquals(value(ops.stats().sumOfLogs(img)), summary.getSumOfLogs(),
+			DELTA);
+		assertEquals(value(ops.stats().sumOfInverses(img)), summary
+			.getSumOfInverses(), DELTA);
+		assertEquals(value(ops.stats().mean(img)), summary.getMean(), DELTA);
+		assertEquals(value(ops.stats().variance(img)), summary.getVariance(),
+			DELTA);
+		assertEquals(value(ops.stats().moment2AboutMean(img)), summary
+			.getMoment2AboutMean(), DELTA);
+		assertEquals(value(ops.stats().moment3AboutMean(img)), summary
+			.getMoment3AboutMean(), 1e-4);
+		assertEquals(value(ops.stats().moment4AboutMean(img)), summary
+			.getMoment4AboutMean(), 1e-2);
+		assertEquals(value(ops.stats().geometricMean(img)), summary
+			.getGeometricMean(), DELTA);
+		assertEquals(value(ops.stats().harmonicMean(img)), summary
+			.getHarmonicMean(), DELTA);
+	}
+
+	@Test
+	public void testSmallSummary() {
+		final StatsSummary summary = new StatsSummary();
+		for (final double x : new double[] { 2, 4, 4, 4, 5, 5, 7, 9 }) {
+			summary.add(x);
+		}
+		assertEquals(5, summary.getMean(), 0);
+		assertEquals(32.0 / 7, summary.getVariance(), DELTA);
+		assertEquals(4, summary.getMoment2AboutMean(), DELTA);
+		assertEquals(42.0 / 8, summary.getMoment3AboutMean(), DELTA);
+		assertEquals(356.0 / 8, summary.getMoment4AboutMean(), DELTA);
+		assertEquals(Double.NaN, new StatsSummary().getMean(), 0);
+	}
+
+	@Test
+	public void testCachedEnvironment() {
+		// NB: Leave the stats ops unwrapped, to check which ones are matched.
+		final CachedOpEnvironment env = new CachedOpEnvironment(ops, null, Arrays
+			.<Class<?>> asList(Ops.Stats.Mean.class, Ops.Stats.Variance.class,
+				Ops.Stats.Skewness.class, Ops.Stats.Kurtosis.class));
+		final CountingIterable<UnsignedByteType> input = new CountingIterable<>(
+			img);
+		final UnaryFunctionOp<Iterable<UnsignedByteType>, DoubleType> mean =
+			Functions.unary(env, Ops.Stats.Mean.class, DoubleType.class, input);
+		final UnaryFunctionOp<Iterable<UnsignedByteType>, DoubleType> variance =
+			Functions.unary(env, Ops.Stats.Variance.class, DoubleType.class, input);
+		final UnaryFunctionOp<Iterable<UnsignedByteType>, DoubleType> skewness =
+			Functions.unary(env, Ops.Stats.Skewness.class, DoubleType.class, input);
+		final UnaryFunctionOp<Iterable<UnsignedByteType>, DoubleType> kurtosis =
+			Functions.unary(env, Ops.Stats.Kurtosis.class, DoubleType.class, input);
+		assertSame(SummaryStats.Mean.class, mean.getClass());
+		assertSame(SummaryStats.Variance.class, variance.getClass());
+		assertSame(SummaryStats.Skewness.class, skewness.getClass());
+		assertSame(SummaryStats.Kurtosis.class, kurtosis.getClass());
+
+		final StatsSummary summary = ops.stats().summary(img);
+		assertEquals(summary.getMean(), mean.compute1(input).get(), DELTA);
+		assertEquals(summary.getVariance(), variance.compute1(input).get(), DELTA);
+		assertEquals(summary.getSkewness(), skewness.compute1(input).get(), DELTA);
+		assertEquals(summary.getKurtosis(), kurtosis.compute1(input).get(), DELTA);
+
+		// NB: All four statistics share a single pass of the summary.
+		assertEquals(1, input.passes);
+	}
+
+	@Test
+	public void testCachedDedicatedStats() {
+		// NB: Only the moment-based statistics are taken from the summary.
+		final CachedOpEnvironment env = new CachedOpEnvironment(ops, null, Arrays
+			.<Class<?>> asList(Ops.Stats.Min.class, Ops.Stats.Sum.class));
+		assertNotSame(SummaryStats.class, Functions.unary(env, Ops.Stats.Min.class,
+			DoubleType.class, img).getClass().getEnclosingClass());
+		assertNotSame(SummaryStats.class, Functions.unary(env, Ops.Stats.Sum.class,
+			DoubleType.class, img).getClass().getEnclosingClass());
+	}
+
+	// -- Helper methods --
+
+	private double value(final RealType<?> result) {
+		return result.getRealDouble();
+	}
+
+	// -- Helper classes --
+
+	/** {@link Iterable} which counts the passes over its elements. */
+	private static class CountingIterable<T> implements Iterable<T> {
+
+		private final Iterable<T> iterable;
+
+		private int passes;
+
+		public CountingIterable(final Iterable<T> iterable) {
+			this.iterable = iterable;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			passes++;
+			return iterable.iterator();
+		}
+	}
+
+}
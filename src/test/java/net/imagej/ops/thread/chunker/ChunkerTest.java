@@ -0,0 +1,185 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.ParallelContext;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the parallel {@link ChunkerOp} implementations.
+ */
+@RunWith(Parameterized.class)
+public class ChunkerTest extends AbstractOpTest {
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> chunkers() {
+		return Arrays.asList(new Object[][] { { ChunkerForkJoin.class },
+			{ ChunkerTiled.class } });
+	}
+
+	private final Class<? extends AbstractChunker> chunkerType;
+
+	public ChunkerTest(final Class<? extends AbstractChunker> chunkerType) {
+		this.chunkerType = chunkerType;
+	}
+
+	@Test
+	public void testEachElementOnce() {
+		final int numElements = 100003;
+		final AtomicIntegerArray visits = new AtomicIntegerArray(numElements);
+
+		ops.run(chunkerType, new CountingChunk(visits), numElements, 10);
+
+		assertVisitedOnce(visits);
+	}
+
+	@Test
+	public void testFailureCancels() {
+		final AbstractChunker chunker = ops.op(chunkerType, new FailingChunk(),
+			10000, 10);
+
+		try {
+			chunker.run();
+			fail("Expected the failure of a chunk to propagate");
+		}
+		catch (final RuntimeException exc) {
+			assertTrue(chunker.isCanceled());
+		}
+	}
+
+	@Test
+	public void testRunAfterFailure() {
+		final int numElements = 10000;
+		final AbstractChunker chunker = ops.op(chunkerType, new FailingChunk(),
+			numElements, 10);
+
+		try {
+			chunker.run();
+			fail("Expected the failure of a chunk to propagate");
+		}
+		catch (final RuntimeException exc) {
+			// NB: Expected; the chunker is canceled now.
+		}
+
+		final AtomicIntegerArray visits = new AtomicIntegerArray(numElements);
+		chunker.setChunk(new CountingChunk(visits));
+		chunker.run();
+
+		assertFalse(chunker.isCanceled());
+		assertVisitedOnce(visits);
+	}
+
+	@Test
+	public void testRunsOnContextExecutor() throws Exception {
+		final ThreadGroup group = new ThreadGroup("context executor");
+		final ExecutorService executor = Executors.newFixedThreadPool(2,
+			r -> new Thread(group, r));
+		try {
+			final Set<ThreadGroup> groups = ConcurrentHashMap.newKeySet();
+			final Chunk chunk = (startIndex, stepSize, numSteps) -> groups.add(Thread
+				.currentThread().getThreadGroup());
+			final ParallelContext context = ParallelContext.executor(executor);
+
+			context.run(() -> ops.run(chunkerType, chunk, 100003, 10));
+			assertEquals(Collections.singleton(group), groups);
+
+			// NB: Not even from an unrelated ForkJoinPool worker.
+			groups.clear();
+			ForkJoinPool.commonPool().submit(() -> context.run(() -> ops.run(
+				chunkerType, chunk, 100003, 10))).get();
+			assertEquals(Collections.singleton(group), groups);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	// -- Helper methods --
+
+	private void assertVisitedOnce(final AtomicIntegerArray visits) {
+		for (int i = 0; i < visits.length(); i++) {
+			assertEquals(1, visits.get(i));
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Counts the visits of each element. */
+	private static class CountingChunk implements Chunk {
+
+		private final AtomicIntegerArray visits;
+
+		public CountingChunk(final AtomicIntegerArray visits) {
+			this.visits = visits;
+		}
+
+		@Override
+		public void execute(final int startIndex, final int stepSize,
+			final int numSteps)
+		{
+			for (int i = 0; i < numSteps; i++) {
+				visits.incrementAndGet(startIndex + i * stepSize);
+			}
+		}
+	}
+
+	/** Fails on every chunk. */
+	private static class FailingChunk implements Chunk {
+
+		@Override
+		public void execute(final int startIndex, final int stepSize,
+			final int numSteps)
+		{
+			throw new IllegalStateException("broken chunk");
+		}
+	}
+
+}
@@ -32,24 +32,38 @@ package net.imagej.ops.threshold.apply;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.threshold.LocalThresholdMethod;
 import net.imagej.ops.threshold.ThresholdNamespace;
 import net.imagej.ops.threshold.localBernsen.LocalBernsenThreshold;
 import net.imagej.ops.threshold.localContrast.LocalContrastThreshold;
+import net.imagej.ops.threshold.localContrast.RectangleLocalContrastThreshold;
 import net.imagej.ops.threshold.localMean.LocalMeanThreshold;
+import net.imagej.ops.threshold.localMean.RectangleLocalMeanThreshold;
 import net.imagej.ops.threshold.localMedian.LocalMedianThreshold;
 import net.imagej.ops.threshold.localMidGrey.LocalMidGreyThreshold;
 import net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold;
+import net.imagej.ops.threshold.localNiblack.RectangleLocalNiblackThreshold;
 import net.imagej.ops.threshold.localPhansalkar.LocalPhansalkarThreshold;
+import net.imagej.ops.threshold.localPhansalkar.RectangleLocalPhansalkarThreshold;
 import net.imagej.ops.threshold.localSauvola.LocalSauvolaThreshold;
+import net.imagej.ops.threshold.localSauvola.RectangleLocalSauvolaThreshold;
+import net.imglib2.Cursor;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -230,4 +244,124 @@ public class LocalThresholdTest extends AbstractOpTest {
 		assertEquals(out.firstElement().get(), false);
 	}
 
+	/**
+	 * Test that a {@link LocalThresholdMethod} keeps its initialized ops and
+	 * scratch variables intact across several computations on different inputs,
+	 * by comparing each result with that of a freshly matched op.
+	 */
+	@Test
+	public void testLocalThresholdReuse() {
+		final Img<ByteType> inverted = in.copy();
+		for (final ByteType t : inverted) {
+			t.set((byte) ~t.get());
+		}
+		final UnaryComputerOp<Img<ByteType>, Img<BitType>> op = Computers.unary(
+			ops, LocalNiblackThreshold.class, out, in, new RectangleShape(3, false),
+			new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(Boundary.SINGLE),
+			1.0, 0.5);
+		final Img<BitType> expected = out.factory().create(out, new BitType());
+
+		for (final Img<ByteType> input : Arrays.asList(in, inverted, in)) {
+			op.compute1(input, out);
+			ops.run(LocalNiblackThreshold.class, expected, input, new RectangleShape(
+				3, false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+					Boundary.SINGLE), 1.0, 0.5);
+
+			final Cursor<BitType> e = expected.cursor();
+			final Cursor<BitType> a = out.cursor();
+			while (e.hasNext()) {
+				assertEquals(e.next().get(), a.next().get());
+			}
+		}
+	}
+
+	/**
+	 * @see RectangleLocalContrastThreshold
+	 */
+	@Test
+	public void testRectangleLocalContrastThreshold() {
+		assertRectangleThreshold(false, Ops.Threshold.LocalContrastThreshold.class,
+			RectangleLocalContrastThreshold.class, LocalContrastThreshold.class);
+	}
+
+	/**
+	 * @see RectangleLocalMeanThreshold
+	 */
+	@Test
+	public void testRectangleLocalMeanThreshold() {
+		assertRectangleThreshold(true, Ops.Threshold.LocalMeanThreshold.class,
+			RectangleLocalMeanThreshold.class, LocalMeanThreshold.class, 1.0);
+	}
+
+	/**
+	 * @see RectangleLocalNiblackThreshold
+	 */
+	@Test
+	public void testRectangleLocalNiblackThreshold() {
+		assertRectangleThreshold(true, Ops.Threshold.LocalNiblackThreshold.class,
+			RectangleLocalNiblackThreshold.class, LocalNiblackThreshold.class, 1.0,
+			0.5);
+	}
+
+	/**
+	 * @see RectangleLocalPhansalkarThreshold
+	 */
+	@Test
+	public void testRectangleLocalPhansalkarThreshold() {
+		assertRectangleThreshold(true,
+			Ops.Threshold.LocalPhansalkarThreshold.class,
+			RectangleLocalPhansalkarThreshold.class, LocalPhansalkarThreshold.class,
+			0.25, 0.5);
+	}
+
+	/**
+	 * @see RectangleLocalSauvolaThreshold
+	 */
+	@Test
+	public void testRectangleLocalSauvolaThreshold() {
+		assertRectangleThreshold(true, Ops.Threshold.LocalSauvolaThreshold.class,
+			RectangleLocalSauvolaThreshold.class, LocalSauvolaThreshold.class, 0.5,
+			0.5);
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Checks that the rectangle implementation of a local threshold is matched
+	 * for {@link RectangleShape}s of a small and a large span, and agrees with
+	 * the neighborhood-based one on an integer and a floating point image.
+	 *
+	 * @param skipCenter whether to check shapes without their center, too
+	 */
+	private void assertRectangleThreshold(final boolean skipCenter,
+		final Class<? extends Op> type, final Class<? extends Op> rectangleType,
+		final Class<? extends Op> defaultType, final Object... params)
+	{
+		final Img<ByteType> bytes = generateByteArrayTestImg(true, 17, 12);
+		final Img<FloatType> floats = ArrayImgs.floats(17, 12);
+		final Cursor<ByteType> b = bytes.cursor();
+		for (final FloatType f : floats) {
+			// NB: Quarters keep the window sums exact, as for the integer input.
+			f.setReal(b.next().getRealDouble() / 4);
+		}
+		final OutOfBoundsMirrorFactory<ByteType, Img<ByteType>> oobFactory =
+			new OutOfBoundsMirrorFactory<>(Boundary.SINGLE);
+
+		for (final int span : new int[] { 1, 5 }) {
+			for (final boolean skip : skipCenter ? new boolean[] { false, true }
+				: new boolean[] { false })
+			{
+				for (final Img<?> img : Arrays.asList(bytes, floats)) {
+					final Object[] args = new Object[3 + params.length];
+					args[0] = img;
+					args[1] = new RectangleShape(span, skip);
+					args[2] = oobFactory;
+					System.arraycopy(params, 0, args, 3, params.length);
+					assertMatchesDefault(type, rectangleType, defaultType, ArrayImgs
+						.bits(17, 12), ArrayImgs.bits(17, 12), 0, args);
+				}
+			}
+		}
+	}
+
 }